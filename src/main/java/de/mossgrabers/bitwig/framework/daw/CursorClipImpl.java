@@ -13,7 +13,6 @@ import com.bitwig.extension.controller.api.CursorTrack;
 import com.bitwig.extension.controller.api.NoteOccurrence;
 import com.bitwig.extension.controller.api.NoteStep;
 import com.bitwig.extension.controller.api.PinnableCursorClip;
-import com.bitwig.extension.controller.api.SettableColorValue;
 
 import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.controller.color.ColorEx;
@@ -49,6 +48,7 @@ public class CursorClipImpl implements INoteClip
     private int                      editPage        = 0;
     private double                   stepLength;
     private final List<NotePosition> editSteps       = new ArrayList<> ();
+    private ColorEx                  color           = ColorEx.BLACK;
 
 
     /**
@@ -87,7 +87,7 @@ public class CursorClipImpl implements INoteClip
         this.launcherClip.getAccent ().markInterested ();
         this.launcherClip.canScrollStepsBackwards ().markInterested ();
         this.launcherClip.canScrollStepsForwards ().markInterested ();
-        this.launcherClip.color ().markInterested ();
+        this.launcherClip.color ().addValueObserver ( (red, green, blue) -> this.color = new ColorEx (red, green, blue));
         this.launcherClip.isPinned ().markInterested ();
 
         this.launcherClip.getTrack ().canHoldNoteData ().markInterested ();
@@ -143,8 +143,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public ColorEx getColor ()
     {
-        final SettableColorValue color = this.getClip ().color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
@@ -36,10 +36,12 @@ import de.mossgrabers.bitwig.framework.usb.UsbDeviceImpl;
 import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.daw.VuMeterManager;
 import de.mossgrabers.framework.daw.constants.Capability;
 import de.mossgrabers.framework.daw.data.IDeviceMetadata;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.observer.ObserverManager;
 import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
@@ -48,6 +50,7 @@ import de.mossgrabers.framework.parameter.NoteAttribute;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
 import de.mossgrabers.framework.utils.ConsoleLogger;
+import de.mossgrabers.framework.utils.StartupProfiler;
 
 
 /**
@@ -91,7 +94,9 @@ public class HostImpl implements IHost
     }
 
     private final ControllerHost   host;
-    private final List<IUsbDevice> usbDevices = new ArrayList<> ();
+    private final List<IUsbDevice> usbDevices      = new ArrayList<> ();
+    private final VuMeterManager   vuMeterManager  = new VuMeterManager ();
+    private final ObserverManager  observerManager = new ObserverManager ();
 
 
     /**
@@ -212,7 +217,7 @@ public class HostImpl implements IHost
     public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort)
     {
         final OscModule oscModule = this.host.getOscModule ();
-        return new OpenSoundControlClientImpl (oscModule.connectToUdpServer (serverAddress, serverPort, oscModule.createAddressSpace ()));
+        return new OpenSoundControlClientImpl (this, oscModule.connectToUdpServer (serverAddress, serverPort, oscModule.createAddressSpace ()));
     }
 
 
@@ -330,6 +335,22 @@ public class HostImpl implements IHost
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public VuMeterManager getVuMeterManager ()
+    {
+        return this.vuMeterManager;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ObserverManager getObserverManager ()
+    {
+        return this.observerManager;
+    }
+
+
     private static void readDeviceFiles ()
     {
         synchronized (INSTRUMENT_METADATA)
@@ -337,15 +358,17 @@ public class HostImpl implements IHost
             if (!INSTRUMENT_METADATA.isEmpty ())
                 return;
 
-            readDeviceFile ("Instruments.txt").forEach (line -> {
-                final Optional<IDeviceMetadata> dm = parseDeviceLine (line);
-                if (dm.isPresent ())
-                    INSTRUMENT_METADATA.add (dm.get ());
-            });
-            readDeviceFile ("AudioEffects.txt").forEach (line -> {
-                final Optional<IDeviceMetadata> dm = parseDeviceLine (line);
-                if (dm.isPresent ())
-                    AUDIO_EFFECTS_METADATA.add (dm.get ());
+            StartupProfiler.measureShared ("Device files", () -> {
+                readDeviceFile ("Instruments.txt").forEach (line -> {
+                    final Optional<IDeviceMetadata> dm = parseDeviceLine (line);
+                    if (dm.isPresent ())
+                        INSTRUMENT_METADATA.add (dm.get ());
+                });
+                readDeviceFile ("AudioEffects.txt").forEach (line -> {
+                    final Optional<IDeviceMetadata> dm = parseDeviceLine (line);
+                    if (dm.isPresent ())
+                        AUDIO_EFFECTS_METADATA.add (dm.get ());
+                });
             });
         }
     }
@@ -90,6 +90,9 @@ public class ModelImpl extends AbstractModel
 
         this.controllerHost = controllerHost;
 
+        // Must be known before the channels are created
+        this.host.getVuMeterManager ().setSupported (modelSetup.wantsVuMeters ());
+
         final int numParamPages = this.modelSetup.getNumParamPages ();
         final int numParams = this.modelSetup.getNumParams ();
 
@@ -8,7 +8,6 @@ import java.util.UUID;
 
 import com.bitwig.extension.controller.api.Channel;
 import com.bitwig.extension.controller.api.InsertionPoint;
-import com.bitwig.extension.controller.api.SettableColorValue;
 
 import de.mossgrabers.bitwig.framework.daw.DeviceMetadataImpl;
 import de.mossgrabers.bitwig.framework.daw.data.bank.AbstractChannelBankImpl;
@@ -16,8 +15,10 @@ import de.mossgrabers.bitwig.framework.daw.data.bank.SendBankImpl;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.VuMeterManager;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDeviceMetadata;
+import de.mossgrabers.framework.daw.data.VuMeter;
 import de.mossgrabers.framework.daw.data.bank.ISendBank;
 import de.mossgrabers.framework.daw.data.empty.EmptyParameter;
 import de.mossgrabers.framework.daw.data.empty.EmptySendBank;
@@ -33,9 +34,6 @@ import de.mossgrabers.framework.parameter.IParameter;
  */
 public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements IChannel
 {
-    private static final int                    MAX_RESOLUTION = 16384;
-    private static final int                    CLIP_BORDER    = 16241;
-
     protected final IValueChanger               valueChanger;
 
     private final IHost                         host;
@@ -45,12 +43,11 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     private final IParameter                    muteParameter;
     private final IParameter                    soloParameter;
     private final ISendBank                     sendBank;
+    private final VuMeterManager                vuMeterManager;
+    private final VuMeter                       vuMeter = new VuMeter ();
 
-    private int                                 vuLeft;
-    private int                                 vuRight;
-    private int                                 vuPeakLeft;
-    private int                                 vuPeakRight;
     private int                                 vuPeakLastVolume;
+    private ColorEx                             color   = ColorEx.BLACK;
 
 
     /**
@@ -72,6 +69,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         this.channelBankImpl = channelBank;
         this.deviceChain = channel;
         this.valueChanger = valueChanger;
+        this.vuMeterManager = host.getVuMeterManager ();
 
         if (channel == null)
         {
@@ -87,15 +85,22 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         channel.name ().markInterested ();
         channel.isActivated ().markInterested ();
         channel.isMutedBySolo ().markInterested ();
-        channel.color ().markInterested ();
+        channel.color ().addValueObserver (this::handleColor);
 
         this.volumeParameter = new ParameterImpl (valueChanger, channel.volume (), index);
         this.panParameter = new ParameterImpl (valueChanger, channel.pan (), index);
         this.muteParameter = new MuteParameterImpl (valueChanger, channel, index);
         this.soloParameter = new SoloParameterImpl (valueChanger, channel, index);
 
-        channel.addVuMeterObserver (MAX_RESOLUTION, 0, true, this::handleVULeftMeter);
-        channel.addVuMeterObserver (MAX_RESOLUTION, 1, true, this::handleVURightMeter);
+        // VU meter observers can only be added during initialization and cannot be removed,
+        // therefore only register them if the controller uses them at all. Updates are dropped
+        // while there is no consumer
+        if (this.vuMeterManager.isSupported ())
+        {
+            this.vuMeterManager.register (this.vuMeter);
+            channel.addVuMeterObserver (VuMeter.MAX_RESOLUTION, 0, true, this::handleVULeftMeter);
+            channel.addVuMeterObserver (VuMeter.MAX_RESOLUTION, 1, true, this::handleVURightMeter);
+        }
 
         this.sendBank = new SendBankImpl (host, valueChanger, numSends == 0 ? null : channel.sendBank (), numSends);
     }
@@ -404,8 +409,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public ColorEx getColor ()
     {
-        final SettableColorValue color = this.deviceChain.color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
@@ -417,11 +421,19 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public VuMeter getVuMeter ()
+    {
+        return this.vuMeter;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getVu ()
     {
-        return (int) Math.round ((this.vuLeft + this.vuRight) * this.valueChanger.getUpperBound () / (double) MAX_RESOLUTION / 2.0);
+        return this.vuMeter.get (this.valueChanger.getUpperBound ());
     }
 
 
@@ -437,7 +449,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public int getVuLeft ()
     {
-        return this.vuLeft * this.valueChanger.getUpperBound () / MAX_RESOLUTION;
+        return this.vuMeter.getLeft (this.valueChanger.getUpperBound ());
     }
 
 
@@ -445,7 +457,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public boolean getVuLeftClipState ()
     {
-        return this.vuLeft >= CLIP_BORDER;
+        return this.vuMeter.isLeftClipped ();
     }
 
 
@@ -453,7 +465,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public int getVuRight ()
     {
-        return this.vuRight * this.valueChanger.getUpperBound () / MAX_RESOLUTION;
+        return this.vuMeter.getRight (this.valueChanger.getUpperBound ());
     }
 
 
@@ -461,7 +473,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public boolean getVuRightClipState ()
     {
-        return this.vuRight >= CLIP_BORDER;
+        return this.vuMeter.isRightClipped ();
     }
 
 
@@ -470,11 +482,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     public int getVuPeakLeft ()
     {
         this.checkPeakVolume ();
-
-        final int vuLeftAdjusted = this.getVuLeft ();
-        if (vuLeftAdjusted > this.vuPeakLeft)
-            this.vuPeakLeft = vuLeftAdjusted;
-        return this.vuPeakLeft;
+        return this.vuMeter.getPeakLeft (this.valueChanger.getUpperBound ());
     }
 
 
@@ -483,11 +491,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     public int getVuPeakRight ()
     {
         this.checkPeakVolume ();
-
-        final int vuRightAdjusted = this.getVuRight ();
-        if (vuRightAdjusted > this.vuPeakRight)
-            this.vuPeakRight = vuRightAdjusted;
-        return this.vuPeakRight;
+        return this.vuMeter.getPeakRight (this.valueChanger.getUpperBound ());
     }
 
 
@@ -500,8 +504,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         if (this.vuPeakLastVolume == volume)
             return;
         this.vuPeakLastVolume = volume;
-        this.vuPeakLeft = 0;
-        this.vuPeakRight = 0;
+        this.vuMeter.resetPeaks ();
     }
 
 
@@ -608,18 +611,22 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     }
 
 
+    private void handleColor (final float red, final float green, final float blue)
+    {
+        this.color = new ColorEx (red, green, blue);
+    }
+
+
     private void handleVULeftMeter (final int value)
     {
-        // Limit value to this.configuration.getMaxParameterValue () due to
-        // https://github.com/teotigraphix/Framework4Bitwig/issues/98
-        this.vuLeft = value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
+        if (this.vuMeterManager.isActive ())
+            this.vuMeter.setLeft (value);
     }
 
 
     private void handleVURightMeter (final int value)
     {
-        // Limit value to this.configuration.getMaxParameterValue () due to
-        // https://github.com/teotigraphix/Framework4Bitwig/issues/98
-        this.vuRight = value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
+        if (this.vuMeterManager.isActive ())
+            this.vuMeter.setRight (value);
     }
 }
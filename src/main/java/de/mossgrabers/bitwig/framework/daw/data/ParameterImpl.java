@@ -130,6 +130,7 @@ public class ParameterImpl extends RangedValueImpl
     @Override
     public void resetValue ()
     {
+        this.valueChanger.getEncoderAccumulator ().cancel (this);
         this.parameter.reset ();
     }
 
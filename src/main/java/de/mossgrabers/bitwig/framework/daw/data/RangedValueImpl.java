@@ -125,6 +125,7 @@ public class RangedValueImpl extends AbstractParameterImpl
     @Override
     public void setValue (final IValueChanger valueChanger, final int value)
     {
+        this.valueChanger.getEncoderAccumulator ().cancel (this);
         this.rangedValue.set (Integer.valueOf (value), Integer.valueOf (valueChanger.getUpperBound ()));
     }
 
@@ -141,6 +142,7 @@ public class RangedValueImpl extends AbstractParameterImpl
     @Override
     public void setValueImmediatly (final int value)
     {
+        this.valueChanger.getEncoderAccumulator ().cancel (this);
         this.rangedValue.setImmediately (this.valueChanger.toNormalizedValue (value));
     }
 
@@ -149,7 +151,8 @@ public class RangedValueImpl extends AbstractParameterImpl
     @Override
     public void changeValue (final IValueChanger valueChanger, final int value)
     {
-        this.inc (valueChanger.calcKnobChange (value));
+        // Combine all changes of a frame into one
+        this.valueChanger.getEncoderAccumulator ().add (this, valueChanger.calcKnobChange (value), Math.abs (valueChanger.decode (value)));
     }
 
 
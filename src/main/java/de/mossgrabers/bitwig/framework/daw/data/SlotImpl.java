@@ -5,7 +5,6 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import com.bitwig.extension.controller.api.ClipLauncherSlot;
-import com.bitwig.extension.controller.api.ColorValue;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
@@ -23,6 +22,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
 {
     private final ITrack           track;
     private final ClipLauncherSlot slot;
+    private ColorEx                color = ColorEx.BLACK;
 
 
     /**
@@ -43,7 +43,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         slot.sceneIndex ().markInterested ();
         slot.name ().markInterested ();
         slot.hasContent ().markInterested ();
-        slot.color ().markInterested ();
+        slot.color ().addValueObserver ( (red, green, blue) -> this.color = new ColorEx (red, green, blue));
 
         // States
         slot.isPlaying ().markInterested ();
@@ -186,8 +186,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         if (this.track.isGroup ())
             return this.track.getColor ();
 
-        final ColorValue color = this.slot.color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
@@ -38,6 +38,17 @@ public class EncodedColorLightState extends InternalHardwareLightState
     }
 
 
+    /**
+     * Get the encoded color and blink information.
+     *
+     * @return The encoded state
+     */
+    public int getEncodedColorState ()
+    {
+        return this.encodedColorState;
+    }
+
+
     /** {@inheritDoc}} */
     @Override
     public HardwareLightVisualState getVisualState ()
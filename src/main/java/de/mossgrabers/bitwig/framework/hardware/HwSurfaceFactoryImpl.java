@@ -81,7 +81,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
     @Override
     public IHwLight createLight (final int surfaceID, final OutputID outputID, final Supplier<ColorEx> supplier, final Consumer<ColorEx> sendValueConsumer)
     {
-        final Supplier<InternalHardwareLightState> valueSupplier = () -> new RawColorLightState (supplier.get ());
+        final Supplier<InternalHardwareLightState> valueSupplier = LightStateCache.createRawColorSupplier (supplier);
         final Consumer<InternalHardwareLightState> hardwareUpdater = state -> {
             final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
             final Color c = visualState == null ? Color.blackColor () : visualState.getColor ();
@@ -95,7 +95,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
     @Override
     public IHwLight createLight (final int surfaceID, final OutputID outputID, final IntSupplier supplier, final IntConsumer sendValueConsumer, final IntFunction<ColorEx> stateToColorFunction, final IHwButton button)
     {
-        final Supplier<InternalHardwareLightState> valueSupplier = () -> new EncodedColorLightState (supplier.getAsInt (), stateToColorFunction);
+        final Supplier<InternalHardwareLightState> valueSupplier = LightStateCache.createEncodedColorSupplier (supplier, stateToColorFunction);
         final Consumer<InternalHardwareLightState> hardwareUpdater = state -> {
             final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
             final int encodedColorState = visualState == null ? 0 : supplier.getAsInt ();
@@ -0,0 +1,151 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.hardware;
+
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import com.bitwig.extension.controller.api.InternalHardwareLightState;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+
+/**
+ * Bitwig polls the state of all lights on each frame. Instead of creating a new state object on
+ * each poll, the suppliers created here return the same instance as long as the state does not
+ * change. Raw color states are additionally shared by all lights of all surfaces.
+ *
+ * Encoded color states are only re-used per light since the visual state depends on the color
+ * function of the light (e.g. the color manager of the surface and the button).
+ *
+ * @author Jürgen Moßgraber
+ */
+public class LightStateCache
+{
+    private static final int                   CACHE_SIZE = 1024;
+    private static final RawColorLightState [] RAW_STATES = new RawColorLightState [CACHE_SIZE];
+
+
+    /**
+     * Private due to utility class.
+     */
+    private LightStateCache ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Create a supplier for the state of a light with a raw color.
+     *
+     * @param supplier Provides the current color of the light
+     * @return The state supplier
+     */
+    public static Supplier<InternalHardwareLightState> createRawColorSupplier (final Supplier<ColorEx> supplier)
+    {
+        return new RawColorSupplier (supplier);
+    }
+
+
+    /**
+     * Create a supplier for the state of a light with an encoded color.
+     *
+     * @param supplier Provides the current encoded color and blink state of the light
+     * @param stateToColorFunction Convert the state of the light to a color, which can be displayed
+     *            in the simulated GUI
+     * @return The state supplier
+     */
+    public static Supplier<InternalHardwareLightState> createEncodedColorSupplier (final IntSupplier supplier, final IntFunction<ColorEx> stateToColorFunction)
+    {
+        return new EncodedColorSupplier (supplier, stateToColorFunction);
+    }
+
+
+    /**
+     * Get the shared state for a raw color. Lookup and replacement happen in a direct mapped cache
+     * which is safe to use from several threads since the states are immutable.
+     *
+     * @param color The color
+     * @param encodedColor The color encoded as RGB bytes
+     * @return The state
+     */
+    static RawColorLightState getRawColorState (final ColorEx color, final int encodedColor)
+    {
+        final int slot = (encodedColor ^ encodedColor >>> 10 ^ encodedColor >>> 20) & CACHE_SIZE - 1;
+        final RawColorLightState cached = RAW_STATES[slot];
+        if (cached != null && cached.getEncodedColor () == encodedColor)
+            return cached;
+        final RawColorLightState state = new RawColorLightState (color);
+        RAW_STATES[slot] = state;
+        return state;
+    }
+
+
+    /**
+     * Encodes the color like ColorEx.encode but without creating an intermediate array.
+     *
+     * @param color The color
+     * @return The color encoded as RGB bytes
+     */
+    private static int encode (final ColorEx color)
+    {
+        final int red = (int) Math.round (color.getRed () * 255.0);
+        final int green = (int) Math.round (color.getGreen () * 255.0);
+        final int blue = (int) Math.round (color.getBlue () * 255.0);
+        return red + (green << 8) + (blue << 16);
+    }
+
+
+    private static class RawColorSupplier implements Supplier<InternalHardwareLightState>
+    {
+        private final Supplier<ColorEx> supplier;
+        private RawColorLightState      lastState;
+
+
+        RawColorSupplier (final Supplier<ColorEx> supplier)
+        {
+            this.supplier = supplier;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public InternalHardwareLightState get ()
+        {
+            final ColorEx color = this.supplier.get ();
+            final int encodedColor = encode (color);
+            if (this.lastState == null || this.lastState.getEncodedColor () != encodedColor)
+                this.lastState = getRawColorState (color, encodedColor);
+            return this.lastState;
+        }
+    }
+
+
+    private static class EncodedColorSupplier implements Supplier<InternalHardwareLightState>
+    {
+        private final IntSupplier          supplier;
+        private final IntFunction<ColorEx> stateToColorFunction;
+        private EncodedColorLightState     lastState;
+
+
+        EncodedColorSupplier (final IntSupplier supplier, final IntFunction<ColorEx> stateToColorFunction)
+        {
+            this.supplier = supplier;
+            this.stateToColorFunction = stateToColorFunction;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public InternalHardwareLightState get ()
+        {
+            final int encodedColorState = this.supplier.getAsInt ();
+            if (this.lastState == null || this.lastState.getEncodedColorState () != encodedColorState)
+                this.lastState = new EncodedColorLightState (encodedColorState, this.stateToColorFunction);
+            return this.lastState;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import com.bitwig.extension.controller.api.InternalHardwareLightState;
 public class RawColorLightState extends InternalHardwareLightState
 {
     private final ColorEx colorState;
+    private final int     encodedColor;
 
 
     /**
@@ -29,6 +30,18 @@ public class RawColorLightState extends InternalHardwareLightState
     public RawColorLightState (final ColorEx colorState)
     {
         this.colorState = colorState;
+        this.encodedColor = colorState.encode ();
+    }
+
+
+    /**
+     * Get the color encoded as RGB bytes.
+     *
+     * @return The encoded color
+     */
+    public int getEncodedColor ()
+    {
+        return this.encodedColor;
     }
 
 
@@ -49,7 +62,7 @@ public class RawColorLightState extends InternalHardwareLightState
     {
         final int prime = 31;
         int result = 1;
-        result = prime * result + this.colorState.encode ();
+        result = prime * result + this.encodedColor;
         return result;
     }
 
@@ -63,6 +76,6 @@ public class RawColorLightState extends InternalHardwareLightState
         if (obj == null || this.getClass () != obj.getClass ())
             return false;
         final RawColorLightState other = (RawColorLightState) obj;
-        return this.colorState.encode () == other.colorState.encode ();
+        return this.encodedColor == other.encodedColor;
     }
 }
@@ -4,36 +4,71 @@
 
 package de.mossgrabers.bitwig.framework.osc;
 
+import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 
 import com.bitwig.extension.api.opensoundcontrol.OscConnection;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 /**
- * Implementation of an OSC server connection (the client).
+ * Implementation of an OSC server connection (the client). Messages are packed into bundles which
+ * stay below a maximum size. If there are more messages than fit into one bundle, the following
+ * bundles are sent with a delay to give slow clients (like Open Stage Control) time to process them.
+ * The delayed bundles are sent from a scheduled task, therefore the caller is never blocked. If the
+ * values of an address are sent again before the previous ones left the queue, the previous ones
+ * are dropped.
  *
  * @author Jürgen Moßgraber
  */
 public class OpenSoundControlClientImpl implements IOpenSoundControlClient
 {
-    private final OscConnection connection;
+    /** The maximum size of an UDP message. */
+    public static final int              MAX_UDP_PAYLOAD     = 65507;
+
+    private static final int             BUNDLE_HEADER_SIZE  = 16;
+    private static final int             ELEMENT_HEADER_SIZE = 4;
+    private static final int             MAX_QUEUED_MESSAGES = 20000;
+
+    private final IHost                  host;
+    private final OscConnection          connection;
+    private final Deque<QueuedMessage>   queue               = new ArrayDeque<> ();
+    private final Map<String, Integer>   latestBatches       = new HashMap<> ();
+    private int                          batchCounter;
+    private boolean                      isTransmitting;
+    private int                          maxBundleSize       = 8192;
+    private int                          bundleDelay         = 10;
 
 
     /**
      * Constructor.
      *
+     * @param host The host
      * @param connection The OSC connection
      */
-    public OpenSoundControlClientImpl (final OscConnection connection)
+    public OpenSoundControlClientImpl (final IHost host, final OscConnection connection)
     {
+        this.host = host;
         this.connection = connection;
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setTransmissionLimits (final int maxBundleSize, final int bundleDelay)
+    {
+        this.maxBundleSize = Math.clamp (maxBundleSize, BUNDLE_HEADER_SIZE, MAX_UDP_PAYLOAD);
+        this.bundleDelay = Math.max (0, bundleDelay);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void sendMessage (final IOpenSoundControlMessage message) throws IOException
@@ -48,33 +83,149 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
     @Override
     public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
     {
-        int pos = 0;
-        this.connection.startBundle ();
-        for (final IOpenSoundControlMessage message: messages)
+        synchronized (this.queue)
         {
-            this.sendMessage (message);
-            pos++;
-            // We cannot get the exact size of the message due to the API, so let's try to stay
-            // below 64K, which is the maximum of an UDP message
-            if (pos > 100)
+            // All messages of one call form a batch. Messages of older batches with the same
+            // address are outdated
+            final Integer batch = Integer.valueOf (this.batchCounter++);
+            for (final IOpenSoundControlMessage message: messages)
             {
-                pos = 0;
-                this.connection.endBundle ();
+                this.queue.add (new QueuedMessage (message, batch.intValue ()));
+                this.latestBatches.put (message.getAddress (), batch);
+            }
+            if (this.queue.size () > MAX_QUEUED_MESSAGES)
+                this.limitQueue ();
+
+            if (this.isTransmitting)
+                return;
+            this.isTransmitting = true;
+        }
+
+        this.transmit ();
+    }
+
+
+    /**
+     * Send the next bundle. If there are more messages in the queue, the next transmission is
+     * scheduled after the bundle delay. If there is no delay all bundles are sent directly.
+     *
+     * @throws IOException Could not send the messages
+     */
+    private void transmit () throws IOException
+    {
+        try
+        {
+            while (this.sendNextBundle ())
+            {
+                if (this.bundleDelay > 0)
+                {
+                    this.host.scheduleTask (this::transmitDelayed, this.bundleDelay);
+                    return;
+                }
+            }
+        }
+        catch (final IOException ex)
+        {
+            synchronized (this.queue)
+            {
+                this.isTransmitting = false;
+            }
+            throw ex;
+        }
+    }
+
+
+    private void transmitDelayed ()
+    {
+        try
+        {
+            this.transmit ();
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not send UDP message.", ex);
+        }
+    }
+
 
-                // Ugly hack, but we need to slow down a bit otherwise clients like Open Stage
-                // Control cannot keep up...
-                try
+    /**
+     * Send the next bundle from the queue.
+     *
+     * @return True if there are more messages to send
+     * @throws IOException Could not send the messages
+     */
+    private boolean sendNextBundle () throws IOException
+    {
+        synchronized (this.queue)
+        {
+            int size = BUNDLE_HEADER_SIZE;
+            boolean isBundleStarted = false;
+            while (!this.queue.isEmpty ())
+            {
+                final QueuedMessage queuedMessage = this.queue.peek ();
+                if (this.isOutdated (queuedMessage))
                 {
-                    Thread.sleep (10);
+                    this.queue.poll ();
+                    continue;
                 }
-                catch (final InterruptedException ex)
+
+                final int messageSize = ELEMENT_HEADER_SIZE + queuedMessage.message ().getEncodedSize ();
+                if (isBundleStarted && size + messageSize > this.maxBundleSize)
+                    break;
+
+                if (!isBundleStarted)
                 {
-                    Thread.currentThread ().interrupt ();
+                    this.connection.startBundle ();
+                    isBundleStarted = true;
                 }
+                this.queue.poll ();
+                this.removeLatest (queuedMessage);
+                this.sendMessage (queuedMessage.message ());
+                size += messageSize;
+            }
 
-                this.connection.startBundle ();
+            if (isBundleStarted)
+                this.connection.endBundle ();
+
+            if (this.queue.isEmpty ())
+            {
+                this.isTransmitting = false;
+                return false;
             }
+            return true;
         }
-        this.connection.endBundle ();
+    }
+
+
+    /**
+     * Removes all outdated messages from the queue. If the queue is still too large, the oldest
+     * messages are dropped.
+     */
+    private void limitQueue ()
+    {
+        this.queue.removeIf (this::isOutdated);
+        while (this.queue.size () > MAX_QUEUED_MESSAGES)
+            this.removeLatest (this.queue.poll ());
+    }
+
+
+    private boolean isOutdated (final QueuedMessage queuedMessage)
+    {
+        final Integer latestBatch = this.latestBatches.get (queuedMessage.message ().getAddress ());
+        return latestBatch != null && latestBatch.intValue () != queuedMessage.batch ();
+    }
+
+
+    private void removeLatest (final QueuedMessage queuedMessage)
+    {
+        final String address = queuedMessage.message ().getAddress ();
+        final Integer latestBatch = this.latestBatches.get (address);
+        if (latestBatch != null && latestBatch.intValue () == queuedMessage.batch ())
+            this.latestBatches.remove (address);
+    }
+
+
+    private record QueuedMessage (IOpenSoundControlMessage message, int batch)
+    {
     }
 }
@@ -282,6 +282,7 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
                 ms.setHasFullFlatTrackList(this.configuration.areMasterTracksIncluded());
                 ms.setWantsClipLauncherNavigator(true);
                 ms.setWantsFocusedParameter(true);
+                ms.setWantsVuMeters(true);
 
                 this.model = this.factory.createModel(this.configuration, this.colorManager, this.valueChanger,
                                 this.scales,
@@ -4,17 +4,49 @@
 
 package de.mossgrabers.controller.ableton.push.controller;
 
+import java.util.prefs.Preferences;
+
+
 /**
- * The color palette of the Push 2/3.
+ * The color palette of the Push 2/3. The synchronization reads all entries from the device and
+ * writes the ones which differ. Several requests are kept in flight at the same time, each one is
+ * repeated if there is no answer in time.
+ *
+ * After a successful synchronization a fingerprint of the palette is stored together with the
+ * serial number of the device. If the same device connects again only a few entries are read to
+ * verify that the palette was not changed in the meantime (e.g. by another application).
  *
  * @author Jürgen Moßgraber
  */
 public class ColorPalette
 {
+    /** The number of read requests which are sent without having received an answer. */
+    private static final int           WINDOW_SIZE        = 16;
+    /** The time in milliseconds after which a request is sent again. */
+    private static final long          REQUEST_TIMEOUT    = 250;
+    /** The time in milliseconds to wait for the serial number of the device. */
+    private static final long          SERIAL_TIMEOUT     = 500;
+    private static final int           POLL_INTERVAL      = 10;
+    /** The entries which are read to verify the fingerprint of an already synchronized device. */
+    private static final int []        VERIFY_ENTRIES     =
+    {
+        0,
+        42,
+        85,
+        127
+    };
+    private static final String        FINGERPRINT_PREFIX = "push-palette-";
+
     private final PushControlSurface   surface;
-    private final ColorPaletteEntry [] entries          = new ColorPaletteEntry [128];
-    private final Object               updateLock       = new Object ();
-    private boolean                    entriesHasUpdate = false;
+    private final ColorPaletteEntry [] entries            = new ColorPaletteEntry [128];
+    private final String               fingerprint;
+    private final Object               updateLock         = new Object ();
+    private boolean                    entriesHasUpdate   = false;
+    private boolean                    isRunning          = false;
+    private boolean                    hasFailed          = false;
+    private boolean                    isVerifying        = false;
+    private boolean                    isWaitingForSerial = false;
+    private long                       startTime;
 
 
     /**
@@ -26,8 +58,14 @@ public class ColorPalette
     {
         this.surface = surface;
 
+        int hash = 1;
         for (int i = 0; i < this.entries.length; i++)
-            this.entries[i] = new ColorPaletteEntry (i, PushColorManager.getPaletteColorRGB (i));
+        {
+            final int [] color = PushColorManager.getPaletteColorRGB (i);
+            this.entries[i] = new ColorPaletteEntry (i, color);
+            hash = 31 * hash + (color[0] << 16 | color[1] << 8 | color[2]);
+        }
+        this.fingerprint = Integer.toHexString (hash);
     }
 
 
@@ -39,41 +77,21 @@ public class ColorPalette
     {
         synchronized (this.updateLock)
         {
-            final int entryIndex = this.findNextEntry ();
-            // All done?
-            if (entryIndex < 0)
-            {
-                // Re-apply the color palette, if necessary
-                if (this.entriesHasUpdate)
-                    this.surface.scheduleTask ( () -> this.surface.sendSysex ("05"), 1000);
-                return;
-            }
+            for (final ColorPaletteEntry entry: this.entries)
+                entry.reset ();
+            this.entriesHasUpdate = false;
+            this.hasFailed = false;
+            this.isVerifying = false;
+            this.isWaitingForSerial = true;
+            this.startTime = System.currentTimeMillis ();
 
-            switch (this.entries[entryIndex].getState ())
-            {
-                case READ:
-                    this.sendColorEntryRequest (entryIndex);
-                    break;
-
-                case READ_REQUESTED:
-                    // 2nd attempt after 1 second...
-                    if (System.currentTimeMillis () - this.entries[entryIndex].getSendTimestamp () > 1000L)
-                        this.sendColorEntryRequest (entryIndex);
-                    break;
-
-                case WRITE:
-                    if (this.entries[entryIndex].incWriteRetries ())
-                        this.surface.sendSysex (this.entries[entryIndex].createUpdateMessage ());
-                    else
-                        this.surface.errorln ("Failed writing color palette entry #" + entryIndex + ".");
-                    break;
-
-                default:
-                    return;
-            }
+            // Already synchronizing? Continue with the reset entries
+            if (this.isRunning)
+                return;
+            this.isRunning = true;
         }
 
-        this.surface.scheduleTask (this::updatePalette, 10);
+        this.synchronize ();
     }
 
 
@@ -98,6 +116,17 @@ public class ColorPalette
                 return;
             }
 
+            // The stored fingerprint is outdated, fall back to a full synchronization
+            if (this.isVerifying)
+            {
+                this.isVerifying = false;
+                for (final ColorPaletteEntry entry: this.entries)
+                {
+                    if (entry.getState () == ColorPaletteEntry.State.DONE)
+                        entry.reset ();
+                }
+            }
+
             this.entriesHasUpdate = true;
             this.entries[index].setWrite ();
         }
@@ -105,19 +134,110 @@ public class ColorPalette
 
 
     /**
-     * Get the next palette entry which needs to be updated.
+     * Sends the requests which are due and checks if the synchronization is finished. Re-schedules
+     * itself until all entries are done.
+     */
+    private void synchronize ()
+    {
+        synchronized (this.updateLock)
+        {
+            final long now = System.currentTimeMillis ();
+
+            if (this.isWaitingForSerial && !this.checkFingerprint (now))
+            {
+                this.surface.scheduleTask (this::synchronize, POLL_INTERVAL);
+                return;
+            }
+
+            int inFlight = 0;
+            boolean isFinished = true;
+            for (int i = 0; i < this.entries.length; i++)
+            {
+                final ColorPaletteEntry entry = this.entries[i];
+                switch (entry.getState ())
+                {
+                    case READ_REQUESTED:
+                        isFinished = false;
+                        if (now - entry.getSendTimestamp () > REQUEST_TIMEOUT)
+                            this.sendColorEntryRequest (i);
+                        inFlight++;
+                        break;
+
+                    case READ:
+                        isFinished = false;
+                        if (inFlight < WINDOW_SIZE)
+                        {
+                            this.sendColorEntryRequest (i);
+                            inFlight++;
+                        }
+                        break;
+
+                    case WRITE:
+                        isFinished = false;
+                        // The entry is read again afterwards to confirm the update
+                        if (entry.incWriteRetries ())
+                            this.surface.sendSysex (entry.createUpdateMessage ());
+                        else
+                        {
+                            this.hasFailed = true;
+                            this.surface.errorln ("Failed writing color palette entry #" + i + ".");
+                        }
+                        break;
+
+                    default:
+                        break;
+                }
+            }
+
+            if (isFinished)
+            {
+                this.isRunning = false;
+                this.finish ();
+                return;
+            }
+        }
+
+        this.surface.scheduleTask (this::synchronize, POLL_INTERVAL);
+    }
+
+
+    /**
+     * Waits for the serial number of the device. If the palette of the device has already been
+     * synchronized, only some entries are read for verification.
      *
-     * @return The index of the entry or -1 if no further updates are required
+     * @param now The current time
+     * @return True if the synchronization can start
      */
-    private int findNextEntry ()
+    private boolean checkFingerprint (final long now)
     {
-        for (int i = 0; i < this.entries.length; i++)
+        final int serialNumber = this.surface.getSerialNumber ();
+        if (serialNumber < 0 && now - this.startTime < SERIAL_TIMEOUT)
+            return false;
+
+        this.isWaitingForSerial = false;
+        if (serialNumber > 0 && this.fingerprint.equals (loadFingerprint (serialNumber)))
         {
-            if (this.entries[i].getState () != ColorPaletteEntry.State.DONE)
-                return i;
+            this.isVerifying = true;
+            for (final ColorPaletteEntry entry: this.entries)
+                entry.setDone ();
+            for (final int index: VERIFY_ENTRIES)
+                this.entries[index].reset ();
         }
+        return true;
+    }
+
+
+    /**
+     * All entries are done. Re-applies the palette if it was modified and stores the fingerprint.
+     */
+    private void finish ()
+    {
+        if (this.entriesHasUpdate)
+            this.surface.sendSysex ("05");
 
-        return -1;
+        final int serialNumber = this.surface.getSerialNumber ();
+        if (!this.hasFailed && !this.isVerifying && serialNumber > 0)
+            storeFingerprint (serialNumber, this.fingerprint);
     }
 
 
@@ -130,6 +250,7 @@ public class ColorPalette
     {
         if (!this.entries[entryIndex].incReadRetries ())
         {
+            this.hasFailed = true;
             this.surface.errorln ("Failed reading color palette entry #" + entryIndex + ".");
             return;
         }
@@ -140,4 +261,31 @@ public class ColorPalette
             entryIndex
         });
     }
+
+
+    private static String loadFingerprint (final int serialNumber)
+    {
+        try
+        {
+            return Preferences.userNodeForPackage (ColorPalette.class).get (FINGERPRINT_PREFIX + serialNumber, null);
+        }
+        catch (final RuntimeException ex)
+        {
+            // Not available, always do a full synchronization
+            return null;
+        }
+    }
+
+
+    private static void storeFingerprint (final int serialNumber, final String fingerprint)
+    {
+        try
+        {
+            Preferences.userNodeForPackage (ColorPalette.class).put (FINGERPRINT_PREFIX + serialNumber, fingerprint);
+        }
+        catch (final RuntimeException ex)
+        {
+            // Not available, always do a full synchronization
+        }
+    }
 }
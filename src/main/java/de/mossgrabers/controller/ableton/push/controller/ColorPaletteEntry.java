@@ -142,6 +142,17 @@ public class ColorPaletteEntry
     }
 
 
+    /**
+     * Set the entry back to its initial state which needs to be read from the device.
+     */
+    public void reset ()
+    {
+        this.state = State.READ;
+        this.readRetries = 0;
+        this.writeRetries = 0;
+    }
+
+
     /**
      * Get the state.
      *
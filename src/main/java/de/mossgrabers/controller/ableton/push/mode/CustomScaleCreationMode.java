@@ -4,6 +4,7 @@
 
 package de.mossgrabers.controller.ableton.push.mode;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -288,8 +289,8 @@ public class CustomScaleCreationMode extends BaseMode<IItem> {
             final CustomScale customScale = new CustomScale(id, name, intervals, "Created on Push");
 
             // Save to library
-            final CustomScaleLibrary library = new CustomScaleLibrary(CustomScaleLibrary.getDefaultFile());
-            final List<CustomScale> existingScales = library.loadAll();
+            final CustomScaleLibrary library = CustomScaleLibrary.getInstance();
+            final List<CustomScale> existingScales = new ArrayList<>(library.getScales());
 
             // Check for duplicate names
             for (final CustomScale existing : existingScales) {
@@ -300,7 +301,7 @@ public class CustomScaleCreationMode extends BaseMode<IItem> {
             }
 
             existingScales.add(customScale);
-            library.saveAll(existingScales);
+            library.save(existingScales);
 
             // Update scales system
             this.scales.setCustomScales(existingScales);
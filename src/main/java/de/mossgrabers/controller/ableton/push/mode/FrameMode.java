@@ -15,8 +15,11 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.featuregroup.AbstractFeatureGroup;
 import de.mossgrabers.framework.featuregroup.AbstractMode;
+import de.mossgrabers.framework.observer.IObserverManagement;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.List;
+
 
 /**
  * Editing of accent parameters.
@@ -157,21 +160,9 @@ public class FrameMode extends BaseMode<IItem>
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    public List<IObserverManagement> getModelDependencies ()
     {
-        super.onActivate ();
-
-        this.setActive (true);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onDeactivate ()
-    {
-        super.onDeactivate ();
-
-        this.setActive (false);
+        return List.of (this.model.getArranger (), this.model.getMixer ());
     }
 
 
@@ -426,11 +417,4 @@ public class FrameMode extends BaseMode<IItem>
 
         return -1;
     }
-
-
-    private void setActive (final boolean enable)
-    {
-        this.model.getArranger ().enableObservers (enable);
-        this.model.getMixer ().enableObservers (enable);
-    }
 }
@@ -19,10 +19,13 @@ import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.featuregroup.AbstractFeatureGroup;
 import de.mossgrabers.framework.featuregroup.AbstractMode;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.observer.IObserverManagement;
 import de.mossgrabers.framework.parameter.IParameter;
 import de.mossgrabers.framework.parameterprovider.special.FixedParameterProvider;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.List;
+
 
 /**
  * Editing of groove parameters.
@@ -65,13 +68,21 @@ public class GrooveMode extends BaseMode<IItem>
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public List<IObserverManagement> getModelDependencies ()
+    {
+        return List.of (this.model.getGroove ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onActivate ()
     {
         super.onActivate ();
 
-        this.setActive (true);
+        this.model.getGroove ().setIndication (true);
     }
 
 
@@ -81,7 +92,7 @@ public class GrooveMode extends BaseMode<IItem>
     {
         super.onDeactivate ();
 
-        this.setActive (false);
+        this.model.getGroove ().setIndication (false);
     }
 
 
@@ -224,12 +235,4 @@ public class GrooveMode extends BaseMode<IItem>
         }
         return AbstractFeatureGroup.BUTTON_COLOR_OFF;
     }
-
-
-    private void setActive (final boolean enable)
-    {
-        final IGroove groove = this.model.getGroove ();
-        groove.enableObservers (enable);
-        groove.setIndication (enable);
-    }
 }
\ No newline at end of file
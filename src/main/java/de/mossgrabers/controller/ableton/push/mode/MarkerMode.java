@@ -14,10 +14,13 @@ import de.mossgrabers.framework.daw.data.IMarker;
 import de.mossgrabers.framework.daw.data.bank.IMarkerBank;
 import de.mossgrabers.framework.featuregroup.AbstractFeatureGroup;
 import de.mossgrabers.framework.featuregroup.AbstractMode;
+import de.mossgrabers.framework.observer.IObserverManagement;
 import de.mossgrabers.framework.parameterprovider.track.VolumeParameterProvider;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.List;
+
 
 /**
  * Editing of accent parameters.
@@ -55,6 +58,14 @@ public class MarkerMode extends BaseMode<IMarker>
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public List<IObserverManagement> getModelDependencies ()
+    {
+        return List.of (this.model.getMarkerBank ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onFirstRow (final int index, final ButtonEvent event)
@@ -26,6 +26,7 @@ import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.INoteRepeat;
 import de.mossgrabers.framework.featuregroup.AbstractFeatureGroup;
 import de.mossgrabers.framework.featuregroup.AbstractMode;
+import de.mossgrabers.framework.observer.IObserverManagement;
 import de.mossgrabers.framework.parameter.IParameter;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.Pair;
@@ -64,21 +65,9 @@ public class NoteRepeatMode extends BaseMode<IItem>
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    public List<IObserverManagement> getModelDependencies ()
     {
-        super.onActivate ();
-
-        this.model.getGroove ().enableObservers (true);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onDeactivate ()
-    {
-        super.onDeactivate ();
-
-        this.model.getGroove ().enableObservers (false);
+        return List.of (this.model.getGroove ());
     }
 
 
@@ -80,6 +80,8 @@ public class DeviceLayerMode extends BaseMode<ILayer>
 
         for (int i = 0; i < 8; i++)
             this.menu.add (new Pair<> (" ", Boolean.FALSE));
+
+        this.showsVuMeters = true;
     }
 
 
@@ -17,11 +17,13 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.daw.data.bank.IParameterPageBank;
+import de.mossgrabers.framework.observer.IObserverManagement;
 import de.mossgrabers.framework.parameter.IParameter;
 import de.mossgrabers.framework.parameterprovider.device.BankParameterProvider;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.List;
 import java.util.Optional;
 
 
@@ -66,6 +68,14 @@ public class UserMode extends BaseMode<IParameter>
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public List<IObserverManagement> getModelDependencies ()
+    {
+        return List.of (this.model.getProject ().getParameterBank (), this.model.getCursorTrack ().getParameterBank ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onKnobTouch (final int index, final boolean isTouched)
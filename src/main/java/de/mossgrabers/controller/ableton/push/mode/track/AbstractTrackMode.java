@@ -60,6 +60,8 @@ public abstract class AbstractTrackMode extends BaseMode<ITrack>
 
         for (int i = 0; i < 8; i++)
             this.menu.add (new Pair<> (" ", Boolean.FALSE));
+
+        this.showsVuMeters = true;
     }
 
 
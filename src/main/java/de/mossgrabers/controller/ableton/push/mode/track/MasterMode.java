@@ -58,6 +58,8 @@ public class MasterMode extends BaseMode<ITrack>
         this.masterTrack = this.model.getMasterTrack ();
         this.project = this.model.getProject ();
         this.setParameterProvider (new FixedParameterProvider (this.masterTrack.getVolumeParameter (), this.masterTrack.getPanParameter (), this.project.getCueVolumeParameter (), this.project.getCueMixParameter (), EmptyParameter.INSTANCE, EmptyParameter.INSTANCE, EmptyParameter.INSTANCE, EmptyParameter.INSTANCE));
+
+        this.showsVuMeters = true;
     }
 
 
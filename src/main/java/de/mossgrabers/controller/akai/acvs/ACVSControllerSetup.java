@@ -115,6 +115,7 @@ public class ACVSControllerSetup extends AbstractControllerSetup<ACVSControlSurf
         final ModelSetup ms = new ModelSetup ();
         ms.setHasFullFlatTrackList (true);
         ms.setNumSends (4);
+        ms.setWantsVuMeters (true);
 
         this.model = this.factory.createModel (this.configuration, this.colorManager, this.valueChanger, this.scales, ms);
         this.model.getTrackBank ().setIndication (true);
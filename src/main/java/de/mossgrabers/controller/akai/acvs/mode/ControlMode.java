@@ -84,6 +84,8 @@ public class ControlMode extends AbstractParameterMode<ACVSControlSurface, ACVSC
             final BankParameterProvider provider2 = new BankParameterProvider (model.getCursorDevice ().getParameterBank ());
             this.setParameterProvider (new CombinedParameterProvider (provider1, provider2));
         }
+
+        this.showsVuMeters = true;
     }
 
 
@@ -130,6 +130,7 @@ public class FireControllerSetup extends AbstractControllerSetup<FireControlSurf
             64,
             16
         });
+        ms.setWantsVuMeters (true);
 
         this.model = this.factory.createModel (this.configuration, this.colorManager, this.valueChanger, this.scales, ms);
 
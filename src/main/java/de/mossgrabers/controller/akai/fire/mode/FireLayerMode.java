@@ -76,6 +76,8 @@ public class FireLayerMode extends AbstractParameterMode<FireControlSurface, Fir
 
         this.setControls (ContinuousID.createSequentialList (ContinuousID.KNOB1, 4));
         this.setParameterProvider (new FourKnobProvider<> (surface, new SelectedLayerOrDrumPadParameterProvider (this.getDrumDevice ()), ButtonID.ALT));
+
+        this.showsVuMeters = true;
     }
 
 
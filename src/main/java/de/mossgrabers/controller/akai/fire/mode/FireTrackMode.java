@@ -73,6 +73,8 @@ public class FireTrackMode extends TrackMode<FireControlSurface, FireConfigurati
 
         this.setControls (ContinuousID.createSequentialList (ContinuousID.KNOB1, 4));
         this.setParameterProvider (new FourKnobProvider<> (surface, new SelectedTrackParameterProvider (model), ButtonID.ALT));
+
+        this.showsVuMeters = true;
     }
 
 
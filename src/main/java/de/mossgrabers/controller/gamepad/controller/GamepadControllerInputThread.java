@@ -13,29 +13,63 @@ import com.studiohartman.jamepad.ControllerIndex;
 import com.studiohartman.jamepad.ControllerManager;
 import com.studiohartman.jamepad.ControllerUnpluggedException;
 
-import java.util.EnumMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
- * Thread to monitor the input coming from a Gamepad.
+ * Thread to monitor the input coming from a Gamepad. The polling interval is increased while the
+ * gamepad is not used and reset to the minimum on the first change. All changes which happen
+ * until the controller thread processes them are sent in one batch. Axis values are quantized and
+ * filtered by a dead zone before they are compared, therefore noise of the analog sticks does not
+ * cause any updates.
  *
  * @author Jürgen Moßgraber
  */
 public class GamepadControllerInputThread implements Runnable
 {
-    private static final long                    INTERVAL           = 1;
+    private static final ControllerButton [] BUTTONS            = ControllerButton.values ();
+    private static final ControllerAxis []   AXES               = ControllerAxis.values ();
 
-    private final AtomicBoolean                  running            = new AtomicBoolean (false);
+    /** The polling interval in milliseconds while the gamepad is used. */
+    private static final long                MIN_INTERVAL       = 1;
+    /** The maximum polling interval in milliseconds while the gamepad is idle. */
+    private static final long                MAX_INTERVAL       = 16;
+    /** The polling interval in milliseconds while no gamepad is connected. */
+    private static final long                RECONNECT_INTERVAL = 500;
+    /** The number of polls without changes before the polling interval is doubled. */
+    private static final int                 IDLE_POLLS         = 50;
+    /** Axis values below this value are set to 0. */
+    private static final float               DEAD_ZONE          = 0.05f;
+    /** The axis values are quantized to this number of steps per direction. */
+    private static final float               AXIS_STEPS         = 127.0f;
 
-    private final IHost                          host;
-    private final ControllerManager              gamepadManager;
-    private final IGamepadCallback               gamepadCallback;
-    private final Map<ControllerButton, Boolean> buttonStates       = new EnumMap<> (ControllerButton.class);
-    private final Map<ControllerAxis, Float>     axisStates         = new EnumMap<> (ControllerAxis.class);
+    private final AtomicBoolean              running            = new AtomicBoolean (false);
 
-    private int                                  selectedController = -1;
+    private final IHost                      host;
+    private final ControllerManager          gamepadManager;
+    private final IGamepadCallback           gamepadCallback;
+
+    // Only accessed by the polling thread
+    private final boolean []                 buttonStates       = new boolean [BUTTONS.length];
+    private final float []                   axisStates         = new float [AXES.length];
+    private long                             interval           = MIN_INTERVAL;
+    private int                              idlePolls          = 0;
+
+    // The changes which wait for dispatching, guarded by pendingLock
+    private final Object                     pendingLock        = new Object ();
+    private int []                           pendingButtons     = new int [BUTTONS.length * 2];
+    private int                              numPendingButtons  = 0;
+    private final float []                   pendingAxes        = new float [AXES.length];
+    private final boolean []                 isAxisPending      = new boolean [AXES.length];
+    private boolean                          isDispatchPending  = false;
+
+    // Only accessed by the controller thread
+    private int []                           dispatchButtons    = new int [BUTTONS.length * 2];
+    private final float []                   dispatchAxes       = new float [AXES.length];
+    private final boolean []                 isAxisDispatched   = new boolean [AXES.length];
+
+    private int                              selectedController = -1;
 
 
     /**
@@ -105,7 +139,7 @@ public class GamepadControllerInputThread implements Runnable
                 // Hand over to other running threads
                 try
                 {
-                    Thread.sleep (INTERVAL);
+                    Thread.sleep (this.interval);
                 }
                 catch (final InterruptedException ex)
                 {
@@ -117,52 +151,172 @@ public class GamepadControllerInputThread implements Runnable
 
                 synchronized (this.gamepadManager)
                 {
-                    if (this.selectedController < 0 || this.selectedController >= this.gamepadManager.getNumControllers ())
+                    this.poll ();
+                }
+            }
+        }
+        catch (final RuntimeException ex)
+        {
+            this.host.error ("Controller error.", ex);
+        }
+    }
+
+
+    /**
+     * Read the state of the selected gamepad and queue all changes for dispatching. Adapts the
+     * polling interval.
+     */
+    private void poll ()
+    {
+        if (this.selectedController < 0 || this.selectedController >= this.gamepadManager.getNumControllers ())
+        {
+            this.interval = RECONNECT_INTERVAL;
+            return;
+        }
+
+        final ControllerIndex currController = this.gamepadManager.getControllerIndex (this.selectedController);
+        if (!currController.isConnected ())
+        {
+            this.interval = RECONNECT_INTERVAL;
+            this.gamepadManager.update ();
+            if (this.selectedController >= 0 && this.selectedController < this.gamepadManager.getNumControllers ())
+                currController.reconnectController ();
+            return;
+        }
+
+        boolean hasChanged = false;
+        try
+        {
+            synchronized (this.pendingLock)
+            {
+                for (int i = 0; i < BUTTONS.length; i++)
+                {
+                    final boolean isPressed = currController.isButtonPressed (BUTTONS[i]);
+                    if (this.buttonStates[i] == isPressed)
                         continue;
+                    this.buttonStates[i] = isPressed;
+                    this.addPendingButton (i, isPressed);
+                    hasChanged = true;
+                }
 
-                    final ControllerIndex currController = this.gamepadManager.getControllerIndex (this.selectedController);
-                    if (!currController.isConnected ())
-                    {
-                        this.gamepadManager.update ();
-                        if (this.selectedController >= 0 && this.selectedController < this.gamepadManager.getNumControllers ())
-                            currController.reconnectController ();
+                for (int i = 0; i < AXES.length; i++)
+                {
+                    final float position = filterAxis (currController.getAxisState (AXES[i]));
+                    if (this.axisStates[i] == position)
                         continue;
-                    }
-
-                    try
-                    {
-                        for (final ControllerButton button: ControllerButton.values ())
-                        {
-                            final boolean isPressed = currController.isButtonPressed (button);
-                            final Boolean state = this.buttonStates.getOrDefault (button, Boolean.FALSE);
-                            if (state.booleanValue () == isPressed)
-                                continue;
-
-                            this.buttonStates.put (button, Boolean.valueOf (isPressed));
-                            this.host.scheduleTask ( () -> this.gamepadCallback.process (button, isPressed ? ButtonEvent.DOWN : ButtonEvent.UP), 0);
-                        }
-
-                        for (final ControllerAxis axis: ControllerAxis.values ())
-                        {
-                            final float position = currController.getAxisState (axis);
-                            final Float state = this.axisStates.getOrDefault (axis, Float.valueOf (0));
-                            if (state.floatValue () == position)
-                                continue;
-
-                            this.axisStates.put (axis, Float.valueOf (position));
-                            this.host.scheduleTask ( () -> this.gamepadCallback.process (axis, position), 0);
-                        }
-                    }
-                    catch (final ControllerUnpluggedException ex)
-                    {
-                        this.host.error ("Controller not connected.");
-                    }
+                    this.axisStates[i] = position;
+                    // Only the latest position of an axis needs to be sent
+                    this.pendingAxes[i] = position;
+                    this.isAxisPending[i] = true;
+                    hasChanged = true;
+                }
+
+                if (hasChanged && !this.isDispatchPending)
+                {
+                    this.isDispatchPending = true;
+                    this.host.scheduleTask (this::dispatch, 0);
                 }
             }
         }
-        catch (final RuntimeException ex)
+        catch (final ControllerUnpluggedException ex)
         {
-            this.host.error ("Controller error.", ex);
+            this.host.error ("Controller not connected.");
         }
+
+        this.adaptInterval (hasChanged);
+    }
+
+
+    /**
+     * Queue a button event. Button events are never merged, otherwise short presses might get
+     * lost. Must be called while synchronized on the pending lock.
+     *
+     * @param index The index of the button
+     * @param isPressed True if pressed
+     */
+    private void addPendingButton (final int index, final boolean isPressed)
+    {
+        if (this.numPendingButtons == this.pendingButtons.length)
+            this.pendingButtons = Arrays.copyOf (this.pendingButtons, this.pendingButtons.length * 2);
+        this.pendingButtons[this.numPendingButtons] = index << 1 | (isPressed ? 1 : 0);
+        this.numPendingButtons++;
+    }
+
+
+    /**
+     * Poll as fast as possible while the gamepad is used and slow down step by step while it is
+     * idle.
+     *
+     * @param hasChanged True if the gamepad state changed in the last poll
+     */
+    private void adaptInterval (final boolean hasChanged)
+    {
+        if (hasChanged)
+        {
+            this.interval = MIN_INTERVAL;
+            this.idlePolls = 0;
+            return;
+        }
+
+        if (this.interval == RECONNECT_INTERVAL)
+            this.interval = MIN_INTERVAL;
+        else if (this.interval < MAX_INTERVAL)
+        {
+            this.idlePolls++;
+            if (this.idlePolls >= IDLE_POLLS)
+            {
+                this.interval = Math.min (this.interval * 2, MAX_INTERVAL);
+                this.idlePolls = 0;
+            }
+        }
+    }
+
+
+    /**
+     * Send all queued changes to the callback. Executed on the controller thread.
+     */
+    private void dispatch ()
+    {
+        final int numButtons;
+        synchronized (this.pendingLock)
+        {
+            if (this.dispatchButtons.length < this.pendingButtons.length)
+                this.dispatchButtons = new int [this.pendingButtons.length];
+            numButtons = this.numPendingButtons;
+            System.arraycopy (this.pendingButtons, 0, this.dispatchButtons, 0, numButtons);
+            this.numPendingButtons = 0;
+
+            System.arraycopy (this.pendingAxes, 0, this.dispatchAxes, 0, AXES.length);
+            System.arraycopy (this.isAxisPending, 0, this.isAxisDispatched, 0, AXES.length);
+            Arrays.fill (this.isAxisPending, false);
+
+            this.isDispatchPending = false;
+        }
+
+        for (int i = 0; i < numButtons; i++)
+        {
+            final int buttonEvent = this.dispatchButtons[i];
+            this.gamepadCallback.process (BUTTONS[buttonEvent >> 1], (buttonEvent & 1) > 0 ? ButtonEvent.DOWN : ButtonEvent.UP);
+        }
+
+        for (int i = 0; i < AXES.length; i++)
+        {
+            if (this.isAxisDispatched[i])
+                this.gamepadCallback.process (AXES[i], this.dispatchAxes[i]);
+        }
+    }
+
+
+    /**
+     * Quantize the axis value and apply the dead zone.
+     *
+     * @param value The value read from the gamepad in the range of [-1..1]
+     * @return The filtered value
+     */
+    private static float filterAxis (final float value)
+    {
+        if (Math.abs (value) < DEAD_ZONE)
+            return 0;
+        return Math.round (value * AXIS_STEPS) / AXIS_STEPS;
     }
 }
@@ -250,6 +250,10 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     /** A setting of a slot has changed. */
     static final Integer                             SLOT_CHANGE                  = Integer.valueOf (1000);
 
+    private static final int                         NUM_SLOT_TYPES               = CommandSlot.TYPE_MMC + 1;
+    private static final int                         SLOT_INDEX_SIZE              = NUM_SLOT_TYPES * 16 * 128;
+    private static final CommandSlot []              NO_SLOTS                     = new CommandSlot [0];
+
     /** The number of command slots. */
     public static final int                          NUM_SLOTS                    = 300;
 
@@ -277,6 +281,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private String                                   filename;
     private final Object                             syncMapUpdate                = new Object ();
     private int []                                   keyMap;
+    private CommandSlot [] []                        slotIndex;
     private int                                      selectedSlot                 = 0;
 
     private String                                   learnTypeValue               = null;
@@ -564,6 +569,10 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         final FlexiCommand oldCommand = slot.getCommand ();
         final FlexiCommand newCommand = FlexiCommand.lookupByName (value);
         slot.setCommand (newCommand);
+        synchronized (this.syncMapUpdate)
+        {
+            this.slotIndex = null;
+        }
 
         this.fixKnobMode ();
         this.notifyCommandObserver ();
@@ -620,26 +629,81 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
 
     /**
-     * Get all matching configured slot commands, if any.
+     * Get all matching configured slot commands, if any. The slots are looked up in an index which
+     * is created on first use after the slots have changed.
      *
      * @param type The type
      * @param number The number
      * @param midiChannel The MIDI channel
-     * @return The list with all matching slot command, might be empty
+     * @return The array with all matching slot commands, might be empty. Must not be modified!
      */
-    public List<CommandSlot> getSlotCommands (final int type, final int number, final int midiChannel)
+    public CommandSlot [] getSlotCommands (final int type, final int number, final int midiChannel)
     {
-        final List<CommandSlot> results = new ArrayList<> ();
-        for (final CommandSlot slot: this.commandSlots)
+        final int key = getSlotIndexKey (type, type == CommandSlot.TYPE_PITCH_BEND ? 0 : number, midiChannel);
+        if (key < 0)
+            return NO_SLOTS;
+
+        synchronized (this.syncMapUpdate)
         {
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
+            if (this.slotIndex == null)
+                this.slotIndex = this.createSlotIndex ();
+            return this.slotIndex[key];
+        }
+    }
+
+
+    /**
+     * Create the index of all active slots by their type, number and MIDI channel. Slots which
+     * listen to all MIDI channels are added for each channel. The order of the slots is kept.
+     *
+     * @return The index
+     */
+    private CommandSlot [] [] createSlotIndex ()
+    {
+        final CommandSlot [] [] index = new CommandSlot [SLOT_INDEX_SIZE] [];
+        final int [] counts = new int [SLOT_INDEX_SIZE];
+
+        // First count the slots of each key, then fill the arrays
+        for (int pass = 0; pass < 2; pass++)
+        {
+            if (pass == 1)
             {
+                for (int i = 0; i < SLOT_INDEX_SIZE; i++)
+                    index[i] = counts[i] == 0 ? NO_SLOTS : new CommandSlot [counts[i]];
+                Arrays.fill (counts, 0);
+            }
+
+            for (final CommandSlot slot: this.commandSlots)
+            {
+                if (slot.getCommand () == FlexiCommand.OFF)
+                    continue;
+
+                final int type = slot.getType ();
+                final int number = type == CommandSlot.TYPE_PITCH_BEND ? 0 : slot.getNumber ();
                 final int channel = slot.getMidiChannel ();
-                if (channel == midiChannel || channel == 16)
-                    results.add (slot);
+                final int firstChannel = channel == 16 ? 0 : channel;
+                final int lastChannel = channel == 16 ? 15 : channel;
+                for (int c = firstChannel; c <= lastChannel; c++)
+                {
+                    final int key = getSlotIndexKey (type, number, c);
+                    if (key < 0)
+                        continue;
+                    if (pass == 0)
+                        counts[key]++;
+                    else
+                        index[key][counts[key]++] = slot;
+                }
             }
         }
-        return results;
+        return index;
+    }
+
+
+    private static int getSlotIndexKey (final int type, final int number, final int midiChannel)
+    {
+        if (type < 0 || type >= NUM_SLOT_TYPES || number < 0 || number > 127 || midiChannel < 0 || midiChannel > 15)
+            return -1;
+        return (type * 16 + midiChannel) * 128 + number;
     }
 
 
@@ -678,6 +742,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         synchronized (this.syncMapUpdate)
         {
             this.keyMap = null;
+            this.slotIndex = null;
         }
         this.notifyObservers (SLOT_CHANGE);
     }
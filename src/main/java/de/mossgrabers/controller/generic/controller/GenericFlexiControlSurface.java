@@ -6,10 +6,8 @@ package de.mossgrabers.controller.generic.controller;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -18,6 +16,7 @@ import de.mossgrabers.controller.generic.flexihandler.IFlexiCommandHandler;
 import de.mossgrabers.controller.generic.flexihandler.utils.CommandSlot;
 import de.mossgrabers.controller.generic.flexihandler.utils.KnobMode;
 import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
+import de.mossgrabers.controller.generic.flexihandler.utils.ValueDependency;
 import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
@@ -46,15 +45,20 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     };
 
     private final int []                                  valueCache            = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private final FlexiCommand []                         flushedCommands       = new FlexiCommand [GenericFlexiConfiguration.NUM_SLOTS];
+    private final ValueDependency []                      valueDependencies     = new ValueDependency [GenericFlexiConfiguration.NUM_SLOTS];
+    private final boolean []                              isEvaluated           = new boolean [GenericFlexiConfiguration.NUM_SLOTS];
     private final Map<FlexiCommand, IFlexiCommandHandler> handlers              = new EnumMap<> (FlexiCommand.class);
     private NativeFileDialogs                             dialogs;
 
     private long                                          lastReceived          = 0;
     private int                                           lastCCReceived        = -1;
     private final int []                                  lastCCValues          = new int [128];
+    private final CommandSlot []                          highResCommandSlot    = new CommandSlot [1];
 
     private boolean                                       isShiftPressed        = false;
     private boolean                                       isUpdatingValue       = false;
+    private boolean                                       isSurfaceChanged      = false;
     private int                                           functionLayer         = 0;
     private int                                           previousFunctionLayer = 0;
 
@@ -105,32 +109,59 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     @Override
     public void flush ()
     {
+        final boolean surfaceChanged = this.isSurfaceChanged;
+        this.isSurfaceChanged = false;
+
         final CommandSlot [] slots = this.configuration.getCommandSlots ();
         for (int i = 0; i < slots.length; i++)
         {
             final FlexiCommand command = slots[i].getCommand ();
-            if (command != FlexiCommand.OFF && slots[i].isSendValue ())
-                this.flushValue (i, slots[i]);
+            if (command == FlexiCommand.OFF || !slots[i].isSendValue ())
+            {
+                this.flushedCommands[i] = null;
+                continue;
+            }
+
+            // Values are only evaluated again if something they depend on might have changed
+            if (this.flushedCommands[i] != command)
+            {
+                this.flushedCommands[i] = command;
+                this.valueDependencies[i] = this.getValueDependency (command);
+                this.isEvaluated[i] = false;
+            }
+            else if (surfaceChanged && this.valueDependencies[i] == ValueDependency.SURFACE)
+                this.isEvaluated[i] = false;
+
+            if ((!this.isEvaluated[i] || this.valueDependencies[i] == ValueDependency.MODEL) && this.flushValue (i, slots[i]))
+                this.isEvaluated[i] = true;
         }
     }
 
 
-    private void flushValue (final int index, final CommandSlot slot)
+    /**
+     * Send the current value of a command slot to the device, if it has changed.
+     *
+     * @param index The index of the slot
+     * @param slot The slot
+     * @return False if the value was not evaluated since the user is currently changing values
+     */
+    private boolean flushValue (final int index, final CommandSlot slot)
     {
         final FlexiCommand command = slot.getCommand ();
         if (this.isUpdatingValue && !(command.isTrigger () && slot.isSendValueWhenReceived ()))
-            return;
+            return false;
 
         final int value = this.getCommandValue (command);
 
         synchronized (this.valueCache)
         {
             if (this.valueCache[index] == value)
-                return;
+                return true;
             this.valueCache[index] = value;
         }
 
         this.reflectValue (slot, value);
+        return true;
     }
 
 
@@ -169,6 +200,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     public void setShiftPressed (final boolean isShiftPressed)
     {
         this.isShiftPressed = isShiftPressed;
+        this.isSurfaceChanged = true;
     }
 
 
@@ -218,7 +250,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     }
 
 
-    private CommandSlot processFunctionLayer (final List<CommandSlot> commandSlots, final MidiValue value)
+    private CommandSlot processFunctionLayer (final CommandSlot [] commandSlots, final MidiValue value)
     {
         // Check for layer switcher command
         for (final CommandSlot commandSlot: commandSlots)
@@ -298,17 +330,18 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         }
 
         // No Hi-Res
-        final List<CommandSlot> commandSlots = new ArrayList<> ();
+        final CommandSlot [] commandSlots;
         if (matchedCommandSlot == null)
         {
-            for (final CommandSlot commandSlot: this.configuration.getSlotCommands (CommandSlot.TYPE_CC, data1, channel))
-            {
-                commandSlots.add (commandSlot);
+            commandSlots = this.configuration.getSlotCommands (CommandSlot.TYPE_CC, data1, channel);
+            if (commandSlots.length > 0)
                 value = data2;
-            }
         }
         else
-            commandSlots.add (matchedCommandSlot);
+        {
+            this.highResCommandSlot[0] = matchedCommandSlot;
+            commandSlots = this.highResCommandSlot;
+        }
 
         final MidiValue midiValue = MidiValue.get (value, isHighResValue);
         this.handleCommand (this.processFunctionLayer (commandSlots, midiValue), midiValue);
@@ -485,6 +518,19 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     }
 
 
+    /**
+     * Get on what the value of a command depends.
+     *
+     * @param command The command
+     * @return The dependency
+     */
+    private ValueDependency getValueDependency (final FlexiCommand command)
+    {
+        final IFlexiCommandHandler commandHandler = this.handlers.get (command);
+        return commandHandler == null ? ValueDependency.NONE : commandHandler.getValueDependency (command);
+    }
+
+
     /**
      * Handle a command.
      *
@@ -497,6 +543,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
             return;
 
         this.isUpdatingValue = true;
+        this.isSurfaceChanged = true;
         final FlexiCommand command = commandSlot.getCommand ();
         final IFlexiCommandHandler commandHandler = this.handlers.get (command);
         if (commandHandler == null)
@@ -582,7 +629,9 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
                 return;
         }
 
-        if (oldLayer != this.functionLayer)
-            this.getHost ().showNotification ("Functions Layer " + (this.functionLayer + 1));
+        if (oldLayer == this.functionLayer)
+            return;
+        this.isSurfaceChanged = true;
+        this.getHost ().showNotification ("Functions Layer " + (this.functionLayer + 1));
     }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import de.mossgrabers.controller.generic.controller.FlexiCommand;
 import de.mossgrabers.controller.generic.controller.GenericFlexiControlSurface;
 import de.mossgrabers.controller.generic.flexihandler.utils.KnobMode;
 import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
+import de.mossgrabers.controller.generic.flexihandler.utils.ValueDependency;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
 
@@ -63,6 +64,14 @@ public class ActionHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ValueDependency getValueDependency (final FlexiCommand command)
+    {
+        return ValueDependency.NONE;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void handle (final FlexiCommand command, final KnobMode knobMode, final MidiValue value)
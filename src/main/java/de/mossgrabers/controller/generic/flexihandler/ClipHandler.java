@@ -10,6 +10,7 @@ import de.mossgrabers.controller.generic.controller.GenericFlexiControlSurface;
 import de.mossgrabers.controller.generic.flexihandler.utils.FlexiHandlerException;
 import de.mossgrabers.controller.generic.flexihandler.utils.KnobMode;
 import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
+import de.mossgrabers.controller.generic.flexihandler.utils.ValueDependency;
 import de.mossgrabers.framework.command.trigger.clip.NewCommand;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
@@ -99,6 +100,21 @@ public class ClipHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ValueDependency getValueDependency (final FlexiCommand command)
+    {
+        switch (command)
+        {
+            case CLIP_TOGGLE_PIN, CLIP_PLAY, CLIP_PLAY_ALT, CLIP_STOP, CLIP_STOP_ALT, CLIP_RECORD:
+                return ValueDependency.MODEL;
+
+            default:
+                return ValueDependency.NONE;
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void handle (final FlexiCommand command, final KnobMode knobMode, final MidiValue value)
@@ -11,6 +11,7 @@ import de.mossgrabers.controller.generic.controller.GenericFlexiControlSurface;
 import de.mossgrabers.controller.generic.flexihandler.utils.FlexiHandlerException;
 import de.mossgrabers.controller.generic.flexihandler.utils.KnobMode;
 import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
+import de.mossgrabers.controller.generic.flexihandler.utils.ValueDependency;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -79,6 +80,24 @@ public class GlobalHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ValueDependency getValueDependency (final FlexiCommand command)
+    {
+        switch (command)
+        {
+            case GLOBAL_TOGGLE_AUDIO_ENGINE:
+                return ValueDependency.MODEL;
+
+            case GLOBAL_SHIFT_BUTTON:
+                return ValueDependency.SURFACE;
+
+            default:
+                return ValueDependency.NONE;
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void handle (final FlexiCommand command, final KnobMode knobMode, final MidiValue value)
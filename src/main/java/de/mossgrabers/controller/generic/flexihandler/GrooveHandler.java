@@ -10,6 +10,7 @@ import de.mossgrabers.controller.generic.controller.GenericFlexiControlSurface;
 import de.mossgrabers.controller.generic.flexihandler.utils.FlexiHandlerException;
 import de.mossgrabers.controller.generic.flexihandler.utils.KnobMode;
 import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
+import de.mossgrabers.controller.generic.flexihandler.utils.ValueDependency;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.GrooveParameterID;
 import de.mossgrabers.framework.daw.IGroove;
@@ -80,6 +81,21 @@ public class GrooveHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ValueDependency getValueDependency (final FlexiCommand command)
+    {
+        switch (command)
+        {
+            case GROOVE_ACTIVE, GROOVE_SHUFFLE_AMOUNT, GROOVE_ACCENT_AMOUNT:
+                return ValueDependency.MODEL;
+
+            default:
+                return ValueDependency.NONE;
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void handle (final FlexiCommand command, final KnobMode knobMode, final MidiValue value)
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.generic.flexihandler;
 import de.mossgrabers.controller.generic.controller.FlexiCommand;
 import de.mossgrabers.controller.generic.flexihandler.utils.KnobMode;
 import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
+import de.mossgrabers.controller.generic.flexihandler.utils.ValueDependency;
 
 
 /**
@@ -33,6 +34,19 @@ public interface IFlexiCommandHandler
     int getCommandValue (FlexiCommand command);
 
 
+    /**
+     * Get on what the value of a command depends. The surface only evaluates the value again if
+     * the dependency might have changed.
+     *
+     * @param command The command
+     * @return The dependency, MODEL by default
+     */
+    default ValueDependency getValueDependency (final FlexiCommand command)
+    {
+        return ValueDependency.MODEL;
+    }
+
+
     /**
      * Execute the given command (if supported).
      *
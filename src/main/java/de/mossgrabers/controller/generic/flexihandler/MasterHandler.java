@@ -10,6 +10,7 @@ import de.mossgrabers.controller.generic.controller.GenericFlexiControlSurface;
 import de.mossgrabers.controller.generic.flexihandler.utils.FlexiHandlerException;
 import de.mossgrabers.controller.generic.flexihandler.utils.KnobMode;
 import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
+import de.mossgrabers.controller.generic.flexihandler.utils.ValueDependency;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITransport;
@@ -97,6 +98,21 @@ public class MasterHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ValueDependency getValueDependency (final FlexiCommand command)
+    {
+        switch (command)
+        {
+            case MASTER_SET_VOLUME, MASTER_SET_PANNING, MASTER_TOGGLE_MUTE, MASTER_SET_MUTE, MASTER_TOGGLE_SOLO, MASTER_SET_SOLO, MASTER_TOGGLE_ARM, MASTER_SET_ARM, MASTER_CROSSFADER, MASTER_SELECT:
+                return ValueDependency.MODEL;
+
+            default:
+                return ValueDependency.NONE;
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void handle (final FlexiCommand command, final KnobMode knobMode, final MidiValue value)
@@ -10,6 +10,7 @@ import de.mossgrabers.controller.generic.controller.GenericFlexiControlSurface;
 import de.mossgrabers.controller.generic.flexihandler.utils.FlexiHandlerException;
 import de.mossgrabers.controller.generic.flexihandler.utils.KnobMode;
 import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
+import de.mossgrabers.controller.generic.flexihandler.utils.ValueDependency;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -108,6 +109,21 @@ public class NoteInputHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ValueDependency getValueDependency (final FlexiCommand command)
+    {
+        switch (command)
+        {
+            case NOTE_INPUT_REPEAT_ACTIVE, NOTE_INPUT_REPEAT_PERIOD, NOTE_INPUT_REPEAT_LENGTH, NOTE_INPUT_REPEAT_MODE, NOTE_INPUT_REPEAT_OCTAVE, NOTE_INPUT_TRANSPOSE_OCTAVE_UP, NOTE_INPUT_TRANSPOSE_OCTAVE_DOWN:
+                return ValueDependency.MODEL;
+
+            default:
+                return ValueDependency.NONE;
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void handle (final FlexiCommand command, final KnobMode knobMode, final MidiValue value)
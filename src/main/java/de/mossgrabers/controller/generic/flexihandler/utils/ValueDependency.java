@@ -0,0 +1,21 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.generic.flexihandler.utils;
+
+/**
+ * On what the value of a flexi command depends. Decides when the value of a command slot needs to
+ * be evaluated again to send it back to the device.
+ *
+ * @author Jürgen Moßgraber
+ */
+public enum ValueDependency
+{
+    /** The value never changes (or there is none), it is evaluated only once. */
+    NONE,
+    /** The value depends only on the state of the surface (e.g. Shift), evaluated after input. */
+    SURFACE,
+    /** The value depends on the DAW model, it is evaluated on each flush. */
+    MODEL
+}
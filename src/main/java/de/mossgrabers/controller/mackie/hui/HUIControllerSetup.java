@@ -73,6 +73,7 @@ import de.mossgrabers.framework.daw.ModelSetup;
 import de.mossgrabers.framework.daw.constants.AutomationMode;
 import de.mossgrabers.framework.daw.constants.DeviceID;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.VuMeter;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.daw.data.bank.ISendBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
@@ -96,11 +97,14 @@ import de.mossgrabers.framework.view.Views;
 public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurface, HUIConfiguration>
 {
     /** State for button LED on. */
-    public static final int HUI_BUTTON_STATE_ON  = 127;
+    public static final int  HUI_BUTTON_STATE_ON  = 127;
     /** State for button LED off. */
-    public static final int HUI_BUTTON_STATE_OFF = 0;
+    public static final int  HUI_BUTTON_STATE_OFF = 0;
 
-    private final int       numHUIDevices;
+    /** The 12 LEDs of a HUI VU meter. */
+    private static final int HUI_VU_RESOLUTION    = 12;
+
+    private final int        numHUIDevices;
 
 
     /**
@@ -135,9 +139,13 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
     {
         super.flush ();
 
+        // The position is the same for all units, format it only once
+        final String positionText = this.configuration.hasSegmentDisplay () ? this.model.getTransport ().getPositionText ().replace ('.', ':') : null;
+
         this.surfaces.forEach (surface -> {
             this.updateMode (surface, surface.getModeManager ().getActiveID ());
-            this.updateSegmentDisplay (surface);
+            if (positionText != null)
+                surface.getSegmentDisplay ().setRow (0, positionText).allDone ();
         });
 
         this.updateVUandFaders ();
@@ -162,6 +170,7 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
         // This is required to make the new clip function work!
         ms.setNumScenes (8);
         ms.setNumMarkers (8 * this.numHUIDevices);
+        ms.setWantsVuMeters (true);
         this.model = this.factory.createModel (this.configuration, this.colorManager, this.valueChanger, this.scales, ms);
 
         this.model.getTrackBank ().setIndication (true);
@@ -674,58 +683,56 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
     @Override
     public void startup ()
     {
-        final boolean shouldSendPing = this.configuration.shouldSendPing ();
+        // VU meters are updated independently of the active mode
+        this.host.getVuMeterManager ().acquire ();
 
         for (int index = 0; index < this.numHUIDevices; index++)
         {
             final HUIControlSurface surface = this.getSurface (index);
             surface.getViewManager ().setActive (Views.CONTROL);
             surface.getModeManager ().setActive (Modes.PAN);
-
-            if (shouldSendPing)
-                this.sendPing (surface);
         }
-    }
 
-
-    private void sendPing (final HUIControlSurface surface)
-    {
-        surface.getMidiOutput ().sendNote (0, 0);
-        this.host.scheduleTask ( () -> this.sendPing (surface), 1000);
+        if (this.configuration.shouldSendPing ())
+            this.sendPing ();
     }
 
 
-    private void updateSegmentDisplay (final HUIControlSurface surface)
+    /**
+     * Send the keep-alive message to all units. One timer serves all of them.
+     */
+    private void sendPing ()
     {
-        if (!this.configuration.hasSegmentDisplay ())
-            return;
-
-        final ITransport t = this.model.getTransport ();
-        String positionText = t.getPositionText ();
-        positionText = positionText.replace ('.', ':');
-        surface.getSegmentDisplay ().setRow (0, positionText).allDone ();
+        for (final HUIControlSurface surface: this.surfaces)
+            surface.getMidiOutput ().sendNote (0, 0);
+        this.host.scheduleTask (this::sendPing, 1000);
     }
 
 
     private void updateVUandFaders ()
     {
-        final double upperBound = this.valueChanger.getUpperBound ();
         final boolean enableVUMeters = this.configuration.isEnableVUMeters ();
         final boolean hasMotorFaders = this.configuration.hasMotorFaders ();
+        if (!enableVUMeters && !hasMotorFaders)
+            return;
 
         final ITrackBank tb = this.model.getCurrentTrackBank ();
 
-        for (int index = 0; index < this.surfaces.size (); index++)
+        // Interleave the units channel by channel, so that all ports get their updates at the
+        // same pace instead of the last unit always being updated last
+        for (int channel = 0; channel < 8; channel++)
         {
-            final HUIControlSurface surface = this.surfaces.get (index);
-
-            for (int channel = 0; channel < 8; channel++)
+            for (int index = 0; index < this.surfaces.size (); index++)
             {
+                final HUIControlSurface surface = this.surfaces.get (index);
                 final ITrack track = tb.getItem (index * 8 + channel);
 
                 // Update VU LEDs of channel
                 if (enableVUMeters)
-                    surface.updateVuMeters (channel, track.getVuLeft (), track.getVuRight (), upperBound);
+                {
+                    final VuMeter vuMeter = track.getVuMeter ();
+                    surface.updateVuMeters (channel, vuMeter.getLeft (HUI_VU_RESOLUTION), vuMeter.getRight (HUI_VU_RESOLUTION));
+                }
 
                 // Update motor fader of channel
                 if (hasMotorFaders)
@@ -506,23 +506,20 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
      * Update the channels VU value.
      *
      * @param channel The channel [0..7]
-     * @param vuLeft The left VU value [0..16383]
-     * @param vuRight The right VU value [0..16383]
-     * @param upperBound The upper bound
+     * @param vuLeft The left VU value [0..11]
+     * @param vuRight The right VU value [0..11]
      */
-    public void updateVuMeters (final int channel, final int vuLeft, final int vuRight, final double upperBound)
+    public void updateVuMeters (final int channel, final int vuLeft, final int vuRight)
     {
         if (this.vuValuesL[channel] != vuLeft)
         {
             this.vuValuesL[channel] = vuLeft;
-            final int scaledValue = (int) Math.floor (vuLeft * 12.0 / upperBound);
-            this.output.sendPolyphonicAftertouch (channel, scaledValue);
+            this.output.sendPolyphonicAftertouch (channel, vuLeft);
         }
         if (this.vuValuesR[channel] != vuRight)
         {
             this.vuValuesR[channel] = vuRight;
-            final int scaledValue = (int) Math.floor (vuRight * 12.0 / upperBound);
-            this.output.sendPolyphonicAftertouch (channel, 0x10 + scaledValue);
+            this.output.sendPolyphonicAftertouch (channel, 0x10 + vuRight);
         }
     }
 
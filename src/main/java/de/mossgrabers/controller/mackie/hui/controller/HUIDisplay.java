@@ -4,6 +4,7 @@
 
 package de.mossgrabers.controller.mackie.hui.controller;
 
+import java.util.Arrays;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -12,7 +13,6 @@ import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -24,9 +24,21 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class HUIDisplay extends AbstractTextDisplay
 {
-    private static final String      SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
+    private static final byte []     SYSEX_DISPLAY_HEADER =
+    {
+        (byte) 0xF0,
+        0x00,
+        0x00,
+        0x66,
+        0x05,
+        0x00,
+        0x10
+    };
 
-    private final LatestTaskExecutor executor             = new LatestTaskExecutor ();
+    private final LatestTaskExecutor executor             = new LatestTaskExecutor ("HUI Display");
+    /** The cells which were sent last, only accessed by the executor thread. */
+    private final String []          sentCells            = new String [9];
+    private volatile boolean         isResendRequired     = false;
 
 
     /**
@@ -63,22 +75,43 @@ public class HUIDisplay extends AbstractTextDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        super.forceFlush ();
+
+        this.isResendRequired = true;
+    }
+
+
     /**
-     * Send a line to the display.
+     * Send a line to the display. Only the cells which changed are sent.
      *
      * @param text The text to send
      */
     private void sendDisplayLine (final String text)
     {
-        final String t = text;
+        if (this.isResendRequired)
+        {
+            this.isResendRequired = false;
+            Arrays.fill (this.sentCells, null);
+        }
 
-        final int [] array = new int [5];
+        final int headerLength = SYSEX_DISPLAY_HEADER.length;
         for (int cell = 0; cell < this.noOfCells; cell++)
         {
-            array[0] = cell;
+            final String cellText = text.substring (cell * 4, cell * 4 + 4);
+            if (cellText.equals (this.sentCells[cell]))
+                continue;
+            this.sentCells[cell] = cellText;
+
+            final byte [] message = Arrays.copyOf (SYSEX_DISPLAY_HEADER, headerLength + 6);
+            message[headerLength] = (byte) cell;
             for (int i = 0; i < 4; i++)
-                array[1 + i] = t.charAt (cell * 4 + i);
-            this.output.sendSysex (new StringBuilder (SYSEX_DISPLAY_HEADER).append (StringUtils.toHexStr (array)).append ("F7").toString ());
+                message[headerLength + 1 + i] = (byte) cellText.charAt (i);
+            message[headerLength + 5] = (byte) 0xF7;
+            this.output.sendSysex (message);
         }
     }
 
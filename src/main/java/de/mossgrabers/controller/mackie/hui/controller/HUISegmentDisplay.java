@@ -10,7 +10,6 @@ import java.util.Locale;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -20,10 +19,19 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class HUISegmentDisplay extends AbstractTextDisplay
 {
-    private static final String SYSEX_HDR          = "F0 00 00 66 05 00 11 ";
+    private static final byte [] SYSEX_HDR          =
+    {
+        (byte) 0xF0,
+        0x00,
+        0x00,
+        0x66,
+        0x05,
+        0x00,
+        0x11
+    };
 
-    private final int []        transportBuffer    = new int [8];
-    private final int []        oldtransportBuffer = new int [8];
+    private final int []         transportBuffer    = new int [8];
+    private final int []         oldtransportBuffer = new int [8];
 
 
     /**
@@ -86,9 +94,10 @@ public class HUISegmentDisplay extends AbstractTextDisplay
         System.arraycopy (this.transportBuffer, 0, this.oldtransportBuffer, 0, pos + 1);
 
         // Create and send the message with changed digits
-        final int [] data = new int [pos + 1];
-        System.arraycopy (this.transportBuffer, 0, data, 0, data.length);
-        final String msg = SYSEX_HDR + StringUtils.toHexStr (data) + "F7";
+        final byte [] msg = Arrays.copyOf (SYSEX_HDR, SYSEX_HDR.length + pos + 2);
+        for (int i = 0; i <= pos; i++)
+            msg[SYSEX_HDR.length + i] = (byte) this.transportBuffer[i];
+        msg[msg.length - 1] = (byte) 0xF7;
         this.output.sendSysex (msg);
     }
 
@@ -208,22 +208,29 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     {
         super.flush ();
 
-        this.surfaces.forEach (surface -> {
-            try
+        try
+        {
+            // The shared state (assignment, VU meters, faders and position) is updated only once
+            // for all units since each of these methods already addresses all of them
+            final Modes mode = this.getSurface ().getModeManager ().getActiveID ();
+            this.updateMode (mode);
+            if (mode != null)
             {
-                final ModeManager modeManager = surface.getModeManager ();
-                final Modes mode = modeManager.getActiveID ();
-                this.updateMode (mode);
-
-                if (mode == null)
-                    return;
-
                 this.updateVUMeters ();
-                this.updateFaders (surface.isShiftPressed ());
+                this.updateFaders ();
                 this.updateSegmentDisplay ();
+            }
+        }
+        catch (final Exception ex)
+        {
+            this.host.error ("Error during flush.", ex);
+        }
 
-                final IMode activeOrTempMode = modeManager.getActive ();
-                if (activeOrTempMode instanceof final BaseMode<?> baseMode)
+        this.surfaces.forEach (surface -> {
+            try
+            {
+                final ModeManager modeManager = surface.getModeManager ();
+                if (modeManager.getActiveID () != null && modeManager.getActive () instanceof final BaseMode<?> baseMode)
                     baseMode.updateKnobLEDs ();
             }
             catch (final Exception ex)
@@ -275,6 +282,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         ms.setNumFilterColumnEntries (8);
         ms.setNumResults (8);
         ms.setNumMarkers (8 * this.numMCUDevices);
+        ms.setWantsVuMeters (true);
         this.model = this.factory.createModel (this.configuration, this.colorManager, this.valueChanger, this.scales, ms);
 
         final ITrackBank trackBank = this.model.getTrackBank ();
@@ -774,6 +782,9 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     @Override
     public void startup ()
     {
+        // VU meters are updated independently of the active mode
+        this.host.getVuMeterManager ().acquire ();
+
         for (int index = 0; index < this.numMCUDevices; index++)
         {
             final MCUControlSurface surface = this.getSurface (index);
@@ -921,7 +932,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     }
 
 
-    private void updateFaders (final boolean isShiftPressed)
+    private void updateFaders ()
     {
         if (!this.configuration.hasMotorFaders ())
             return;
@@ -968,7 +979,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
                 }
                 else
                 {
-                    final int volume = isShiftPressed ? this.model.getTransport ().getMetronomeVolume () : this.model.getMasterTrack ().getVolume ();
+                    final int volume = surface.isShiftPressed () ? this.model.getTransport ().getMetronomeVolume () : this.model.getMasterTrack ().getVolume ();
                     if (volume != this.masterFaderValue)
                     {
                         this.masterFaderValue = volume;
@@ -38,7 +38,8 @@ public class MCUDisplay extends AbstractTextDisplay
     private final boolean               isMainDevice;
     private final Configuration         configuration;
 
-    private final LatestTaskExecutor [] executors                      = new LatestTaskExecutor [4];
+    /** Sends the rows, a row which is not sent yet is replaced by a newer one. */
+    private final LatestTaskExecutor    executor                       = new LatestTaskExecutor ("MCU Display");
     private boolean                     isShutdown                     = false;
     private boolean                     insertSpace                    = true;
 
@@ -64,9 +65,6 @@ public class MCUDisplay extends AbstractTextDisplay
         this.configuration = configuration;
 
         this.centerNotification = false;
-
-        for (int i = 0; i < this.executors.length; i++)
-            this.executors[i] = new LatestTaskExecutor ();
     }
 
 
@@ -147,8 +145,7 @@ public class MCUDisplay extends AbstractTextDisplay
         if (this.isShutdown)
             return;
 
-        final LatestTaskExecutor executor = this.executors[row + (this.isFirstDisplay ? 0 : 2)];
-        executor.execute ( () -> {
+        this.executor.execute (Integer.valueOf (row), () -> {
             try
             {
                 int offset = 0;
@@ -228,19 +225,16 @@ public class MCUDisplay extends AbstractTextDisplay
         final ExecutorService shutdownExecutor = Executors.newSingleThreadExecutor ();
         shutdownExecutor.execute ( () -> {
 
-            for (final LatestTaskExecutor executor: this.executors)
+            this.executor.shutdown ();
+            try
             {
-                executor.shutdown ();
-                try
-                {
-                    if (!executor.awaitTermination (5, TimeUnit.SECONDS))
-                        this.host.error ("MCU display send executor did not end in 5 seconds.");
-                }
-                catch (final InterruptedException ex)
-                {
-                    this.host.error ("MCU display send executor interrupted.", ex);
-                    Thread.currentThread ().interrupt ();
-                }
+                if (!this.executor.awaitTermination (5, TimeUnit.SECONDS))
+                    this.host.error ("MCU display send executor did not end in 5 seconds.");
+            }
+            catch (final InterruptedException ex)
+            {
+                this.host.error ("MCU display send executor interrupted.", ex);
+                Thread.currentThread ().interrupt ();
             }
 
         });
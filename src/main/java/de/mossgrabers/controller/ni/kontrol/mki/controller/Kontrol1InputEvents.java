@@ -0,0 +1,146 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.ni.kontrol.mki.controller;
+
+import java.util.Arrays;
+
+
+/**
+ * The decoded changes of one or more HID input reports of the Kontrol 1. The events are immutable
+ * and are sent to the callback with one task on the controller thread.
+ *
+ * @author Jürgen Moßgraber
+ */
+public final class Kontrol1InputEvents
+{
+    /** Indicates that the octave of the keyboard did not change. */
+    public static final int NO_OCTAVE_CHANGE   = -1;
+
+    /** The largest change of an encoder which can be sent as a relative 7-bit value. */
+    private static final int MAX_ENCODER_CHANGE = 63;
+
+    private final int       mainEncoderSteps;
+    private final int []    encoderChanges;
+    private final int []    buttonEvents;
+    private final int       firstNote;
+
+
+    /**
+     * Constructor.
+     *
+     * @param mainEncoderSteps The number of steps of the main encoder, positive if increased
+     * @param encoderChanges The changes of the 8 value encoders, the array is not copied
+     * @param buttonEvents The button events in the order they happened, the button ID is shifted
+     *            by 1 bit, the lowest bit is set if pressed, the array is not copied
+     * @param firstNote The new first note of the keyboard or NO_OCTAVE_CHANGE
+     */
+    Kontrol1InputEvents (final int mainEncoderSteps, final int [] encoderChanges, final int [] buttonEvents, final int firstNote)
+    {
+        this.mainEncoderSteps = mainEncoderSteps;
+        this.encoderChanges = encoderChanges;
+        this.buttonEvents = buttonEvents;
+        this.firstNote = firstNote;
+    }
+
+
+    /**
+     * Check if there is any event.
+     *
+     * @return True if there are no events
+     */
+    public boolean isEmpty ()
+    {
+        if (this.mainEncoderSteps != 0 || this.buttonEvents.length > 0 || this.firstNote != NO_OCTAVE_CHANGE)
+            return false;
+        for (final int change: this.encoderChanges)
+        {
+            if (change != 0)
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Check if there are only encoder changes. Only then later events can be merged into these
+     * events without changing the order in which they are dispatched.
+     *
+     * @return True if there are no button events and no octave change
+     */
+    public boolean hasOnlyEncoderChanges ()
+    {
+        return this.buttonEvents.length == 0 && this.firstNote == NO_OCTAVE_CHANGE;
+    }
+
+
+    /**
+     * Check if events which happened later can be merged into these events. This requires that
+     * there are only encoder changes (see {@link #hasOnlyEncoderChanges()}) and that the summed up
+     * change of each encoder still fits into a relative 7-bit value.
+     *
+     * @param later The later events
+     * @return True if they can be merged
+     */
+    public boolean canMerge (final Kontrol1InputEvents later)
+    {
+        if (!this.hasOnlyEncoderChanges ())
+            return false;
+        for (int i = 0; i < this.encoderChanges.length; i++)
+        {
+            if (Math.abs (this.encoderChanges[i] + later.encoderChanges[i]) > MAX_ENCODER_CHANGE)
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Combine these events with events which happened later. Encoder changes are summed up, button
+     * events are appended and the latest octave change wins. Since encoder changes are dispatched
+     * before button events, this must only be called if {@link #canMerge(Kontrol1InputEvents)} is
+     * true.
+     *
+     * @param later The later events
+     * @return The combined events
+     */
+    public Kontrol1InputEvents merge (final Kontrol1InputEvents later)
+    {
+        final int [] encoders = new int [this.encoderChanges.length];
+        for (int i = 0; i < encoders.length; i++)
+            encoders[i] = this.encoderChanges[i] + later.encoderChanges[i];
+
+        final int [] buttons = Arrays.copyOf (this.buttonEvents, this.buttonEvents.length + later.buttonEvents.length);
+        System.arraycopy (later.buttonEvents, 0, buttons, this.buttonEvents.length, later.buttonEvents.length);
+
+        final int note = later.firstNote == NO_OCTAVE_CHANGE ? this.firstNote : later.firstNote;
+        return new Kontrol1InputEvents (this.mainEncoderSteps + later.mainEncoderSteps, encoders, buttons, note);
+    }
+
+
+    /**
+     * Send all events to the callback.
+     *
+     * @param callback The callback
+     */
+    public void dispatch (final UIChangeCallback callback)
+    {
+        // The main encoder selects items step by step, therefore each step is sent
+        final boolean valueIncreased = this.mainEncoderSteps > 0;
+        for (int i = Math.abs (this.mainEncoderSteps); i > 0; i--)
+            callback.mainEncoderChanged (valueIncreased);
+
+        for (int i = 0; i < this.encoderChanges.length; i++)
+        {
+            if (this.encoderChanges[i] != 0)
+                callback.encoderChanged (i, this.encoderChanges[i]);
+        }
+
+        for (final int buttonEvent: this.buttonEvents)
+            callback.buttonChange (buttonEvent >> 1, (buttonEvent & 1) > 0);
+
+        if (this.firstNote != NO_OCTAVE_CHANGE)
+            callback.octaveChanged (this.firstNote);
+    }
+}
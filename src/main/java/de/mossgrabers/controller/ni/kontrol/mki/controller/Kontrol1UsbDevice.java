@@ -5,7 +5,9 @@
 package de.mossgrabers.controller.ni.kontrol.mki.controller;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -442,6 +444,13 @@ public class Kontrol1UsbDevice
 
     private boolean                            isFirstStateMsg           = true;
 
+    // Decoding of the input reports, only accessed by the HID thread
+    private final int []                       buttonBytes               = new int [5];
+    private final int []                       buttonEventBuffer         = new int [BYTE_0.length + BYTE_1.length + BYTE_2.length + BYTE_3.length + BYTE_4.length];
+    private int                                numButtonEvents;
+    private final Deque<Kontrol1InputEvents>   pendingEvents             = new ArrayDeque<> ();
+    private boolean                            isShiftPressed;
+
     static
     {
         LED_MAPPING.put (Integer.valueOf (Kontrol1ControlSurface.BUTTON_SHIFT), Integer.valueOf (0));
@@ -846,6 +855,8 @@ public class Kontrol1UsbDevice
             return;
 
         boolean encoderChange = false;
+        int mainEncoderSteps = 0;
+        final int [] encoderChanges = new int [8];
 
         // Decode main knob
         final int currentEncoderValue = Byte.toUnsignedInt (data[5]);
@@ -854,7 +865,7 @@ public class Kontrol1UsbDevice
             final boolean valueIncreased = (this.mainEncoderValue < currentEncoderValue || this.mainEncoderValue == 0x0F && currentEncoderValue == 0) && !(this.mainEncoderValue == 0 && currentEncoderValue == 0x0F);
             this.mainEncoderValue = currentEncoderValue;
             if (!this.isFirstStateMsg)
-                this.host.scheduleTask ( () -> this.callback.mainEncoderChanged (valueIncreased), 0);
+                mainEncoderSteps = valueIncreased ? 1 : -1;
             encoderChange = true;
         }
 
@@ -879,15 +890,9 @@ public class Kontrol1UsbDevice
                     diff = diff - 999;
 
                 this.encoderValues[encIndex] = value;
+                // Slow down, minimum value seems to be 4
                 if (!this.isFirstStateMsg)
-                {
-                    final int ei = encIndex;
-
-                    // Slow down, minimum value seems to be 4
-                    final int control = diff / 4;
-
-                    this.host.scheduleTask ( () -> this.callback.encoderChanged (ei, control), 0);
-                }
+                    encoderChanges[encIndex] = diff / 4;
                 encoderChange = true;
             }
         }
@@ -895,23 +900,70 @@ public class Kontrol1UsbDevice
         this.isFirstStateMsg = false;
 
         // Test the pressed buttons
-        this.testByteForButtons (data[0], BYTE_0);
-        this.testByteForButtons (data[1], BYTE_1);
-        this.testByteForButtons (data[2], BYTE_2);
+        this.numButtonEvents = 0;
+        this.testByteForButtons (data, 0, BYTE_0);
+        this.testByteForButtons (data, 1, BYTE_1);
+        this.testByteForButtons (data, 2, BYTE_2);
         // Don't test touch events on encoder change to prevent flickering
         if (!encoderChange)
         {
-            this.testByteForButtons (data[3], BYTE_3);
-            this.testByteForButtons (data[4], BYTE_4);
+            this.testByteForButtons (data, 3, BYTE_3);
+            this.testByteForButtons (data, 4, BYTE_4);
         }
 
+        // Shift is the first button of byte 2
+        final boolean wasShiftPressed = this.isShiftPressed;
+        this.isShiftPressed = (this.buttonBytes[2] & TEST_BITS[0]) > 0;
+
         // Changes the octave on the keyboard
+        int octaveChange = Kontrol1InputEvents.NO_OCTAVE_CHANGE;
         if (this.firstNote != data[36])
         {
             // Store the new start note
             this.firstNote = data[36];
-            this.host.scheduleTask ( () -> this.callback.octaveChanged (this.firstNote), 0);
+            octaveChange = this.firstNote;
+        }
+
+        final Kontrol1InputEvents events = new Kontrol1InputEvents (mainEncoderSteps, encoderChanges, Arrays.copyOf (this.buttonEventBuffer, this.numButtonEvents), octaveChange);
+        if (events.isEmpty ())
+            return;
+
+        // Queue the events of each report to keep their order (e.g. Shift pressed, then an encoder
+        // turned). Only encoder changes are combined, if there is no other event in between and
+        // their sum can still be sent. With Shift, each encoder change is a single fine step,
+        // therefore nothing is combined while it is pressed. Only schedule a new task if there is
+        // none
+        synchronized (this.pendingEvents)
+        {
+            final boolean isScheduled = !this.pendingEvents.isEmpty ();
+            final Kontrol1InputEvents last = this.pendingEvents.peekLast ();
+            if (last != null && !wasShiftPressed && !this.isShiftPressed && last.canMerge (events))
+                this.pendingEvents.addLast (this.pendingEvents.pollLast ().merge (events));
+            else
+                this.pendingEvents.addLast (events);
+            if (isScheduled)
+                return;
         }
+        this.host.scheduleTask (this::dispatchEvents, 0);
+    }
+
+
+    /**
+     * Send all collected events to the callback in the order of their reports. Executed on the
+     * controller thread.
+     */
+    private void dispatchEvents ()
+    {
+        final Kontrol1InputEvents [] batches;
+        synchronized (this.pendingEvents)
+        {
+            batches = this.pendingEvents.toArray (new Kontrol1InputEvents [this.pendingEvents.size ()]);
+            this.pendingEvents.clear ();
+        }
+        if (this.callback == null)
+            return;
+        for (final Kontrol1InputEvents events: batches)
+            events.dispatch (this.callback);
     }
 
 
@@ -955,17 +1007,20 @@ public class Kontrol1UsbDevice
     }
 
 
-    private void testByteForButtons (final byte b, final int [] buttons)
+    private void testByteForButtons (final byte [] data, final int index, final int [] buttons)
     {
-        if (this.callback == null)
-            return;
+        // Only add the buttons which changed since the last report
+        final int t = Byte.toUnsignedInt (data[index]);
+        final int changed = t ^ this.buttonBytes[index];
+        this.buttonBytes[index] = t;
 
-        final int t = Byte.toUnsignedInt (b);
         for (int i = 0; i < buttons.length; i++)
         {
-            final int button = buttons[i];
+            if ((changed & TEST_BITS[i]) == 0)
+                continue;
             final boolean isPressed = (t & TEST_BITS[i]) > 0;
-            this.host.scheduleTask ( () -> this.callback.buttonChange (button, isPressed), 0);
+            this.buttonEventBuffer[this.numButtonEvents] = buttons[i] << 1 | (isPressed ? 1 : 0);
+            this.numButtonEvents++;
         }
     }
 
@@ -189,6 +189,7 @@ public class KontrolProtocolControllerSetup extends AbstractControllerSetup<Kont
         ms.setNumMarkers (0);
         ms.setWantsClipLauncherNavigator (true);
         ms.setCursorLayer (true);
+        ms.setWantsVuMeters (true);
         this.model = this.factory.createModel (this.configuration, this.colorManager, this.valueChanger, this.scales, ms);
 
         this.model.getTrackBank ().setIndication (true);
@@ -47,6 +47,8 @@ public class LayerMode extends DefaultLayerMode<KontrolProtocolControlSurface, K
         this.setControls (controls);
         final ISpecificDevice specificDevice = this.getDevice ();
         this.setParameterProvider (new CombinedParameterProvider (new VolumeLayerOrDrumPadParameterProvider (specificDevice), new PanLayerOrDrumPadParameterProvider (specificDevice)));
+
+        this.showsVuMeters = true;
     }
 
 
@@ -44,6 +44,8 @@ public class MixerMode extends TrackVolumeMode<KontrolProtocolControlSurface, Ko
 
         this.setControls (controls);
         this.setParameterProvider (new CombinedParameterProvider (new VolumeParameterProvider (model), new PanParameterProvider (model)));
+
+        this.showsVuMeters = true;
     }
 
 
@@ -159,6 +159,7 @@ public class MaschineJamControllerSetup extends AbstractControllerSetup<Maschine
     {
         final ModelSetup ms = new ModelSetup ();
         ms.enableDrum64Device ();
+        ms.setWantsVuMeters (true);
         this.model = this.factory.createModel (this.configuration, this.colorManager, this.valueChanger, this.scales, ms);
 
         final ITrackBank trackBank = this.model.getTrackBank ();
@@ -531,6 +532,9 @@ public class MaschineJamControllerSetup extends AbstractControllerSetup<Maschine
     @Override
     public void startup ()
     {
+        // VU meters are updated independently of the active mode
+        this.host.getVuMeterManager ().acquire ();
+
         final MaschineJamControlSurface surface = this.getSurface ();
         surface.getModeManager ().setActive (this.configuration.getStartupMode ());
         surface.getViewManager ().setActive (this.configuration.shouldStartWithSessionView () ? Views.SESSION : this.configuration.getStartupView ());
@@ -40,6 +40,8 @@ public class MaschineJamTrackMode extends TrackMode<MaschineJamControlSurface, M
     public MaschineJamTrackMode (final MaschineJamControlSurface surface, final IModel model)
     {
         super (surface, model, true);
+
+        this.showsVuMeters = true;
     }
 
 
@@ -36,6 +36,8 @@ public class MaschineJamVolumeMode extends TrackVolumeMode<MaschineJamControlSur
     public MaschineJamVolumeMode (final MaschineJamControlSurface surface, final IModel model)
     {
         super (surface, model, true);
+
+        this.showsVuMeters = true;
     }
 
 
@@ -202,6 +202,7 @@ public class MaschineControllerSetup extends AbstractControllerSetup<MaschineCon
         ms.setNumTracks (this.maschine.hasGroupButtons () ? 8 : 16);
         ms.setNumDevicesInBank (16);
         ms.setNumScenes (16);
+        ms.setWantsVuMeters (true);
         this.model = this.factory.createModel (this.configuration, this.colorManager, this.valueChanger, this.scales, ms);
 
         final ITrackBank trackBank = this.model.getTrackBank ();
@@ -1111,6 +1112,9 @@ public class MaschineControllerSetup extends AbstractControllerSetup<MaschineCon
     @Override
     public void startup ()
     {
+        // VU meters are updated independently of the active mode
+        this.host.getVuMeterManager ().acquire ();
+
         final MaschineControlSurface surface = this.getSurface ();
         surface.getModeManager ().setActive (Modes.VOLUME);
         surface.getViewManager ().setActive (this.configuration.getStartupView ());
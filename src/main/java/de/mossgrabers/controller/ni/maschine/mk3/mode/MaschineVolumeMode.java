@@ -35,6 +35,8 @@ public class MaschineVolumeMode extends TrackVolumeMode<MaschineControlSurface,
         super (surface, model, false, surface.getMaschine ().hasMCUDisplay () ? DEFAULT_KNOB_IDS : null);
 
         this.initTouchedStates (9);
+
+        this.showsVuMeters = true;
     }
 
 
@@ -147,6 +147,7 @@ public class SLMkIIIControllerSetup extends AbstractControllerSetup<SLMkIIIContr
         final IHost hostProxy = this.model.getHost ();
         final IMidiInput input = midiAccess.createInput ("Pads", "8?????", "9?????");
         final SLMkIIILightGuide lightGuide = new SLMkIIILightGuide (this.model, this.colorManager, output);
+        this.connectCustomScales (lightGuide.getKeyboardScales ());
         final SLMkIIIControlSurface surface = new SLMkIIIControlSurface (hostProxy, this.colorManager, this.configuration, output, input, lightGuide);
         this.surfaces.add (surface);
 
@@ -4,6 +4,9 @@
 
 package de.mossgrabers.controller.novation.slmkiii.controller;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
@@ -12,34 +15,57 @@ import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
- * The displays of SL MkIII.
+ * The displays of SL MkIII. Keeps a shadow of all text, color and value properties of the screens
+ * as well as of the fader LEDs and only sends changes. Property changes are collected and sent
+ * packed into as few system exclusive messages as possible when the display is flushed.
  *
  * @author Jürgen Moßgraber
  */
 public class SLMkIIIDisplay extends AbstractTextDisplay
 {
-    private static final String  MKIII_SYSEX_HEADER               = "F0 00 20 29 02 0A 01 ";
-    private static final String  MKIII_SYSEX_LAYOUT_COMMAND       = MKIII_SYSEX_HEADER + "01 %02d F7";
-    private static final String  MKIII_SYSEX_PROPERTY_COMMAND     = MKIII_SYSEX_HEADER + "02 %02d %02d %02d %s F7";
-    private static final String  MKIII_SYSEX_LED_COMMAND          = MKIII_SYSEX_HEADER + "03 %02X 01 %02X %02X %02X F7";
-
-    private static final String  MKIII_SYSEX_NOTIFICATION_COMMAND = MKIII_SYSEX_HEADER + "04 %s F7";
+    private static final byte []  MKIII_SYSEX_HEADER          =
+    {
+        (byte) 0xF0,
+        0x00,
+        0x20,
+        0x29,
+        0x02,
+        0x0A,
+        0x01
+    };
+    private static final byte     SYSEX_END                   = (byte) 0xF7;
+
+    private static final int      COMMAND_LAYOUT              = 0x01;
+    private static final int      COMMAND_PROPERTY            = 0x02;
+    private static final int      COMMAND_LED                 = 0x03;
+    private static final int      COMMAND_NOTIFICATION        = 0x04;
 
     /** The empty layout. */
-    public static final Integer  SCREEN_LAYOUT_EMPTY              = Integer.valueOf (0);
+    public static final Integer   SCREEN_LAYOUT_EMPTY         = Integer.valueOf (0);
     /** The layout with knobs. */
-    public static final Integer  SCREEN_LAYOUT_KNOB               = Integer.valueOf (1);
+    public static final Integer   SCREEN_LAYOUT_KNOB          = Integer.valueOf (1);
     /** The layout with larger selection boxes. */
-    public static final Integer  SCREEN_LAYOUT_BOX                = Integer.valueOf (2);
+    public static final Integer   SCREEN_LAYOUT_BOX           = Integer.valueOf (2);
+
+    private static final int      PROPERTY_TEXT               = 1;
+    private static final int      PROPERTY_COLOR              = 2;
+    private static final int      PROPERTY_VALUE              = 3;
 
-    private static final Integer PROPERTY_TEXT                    = Integer.valueOf (1);
-    private static final Integer PROPERTY_COLOR                   = Integer.valueOf (2);
-    private static final Integer PROPERTY_VALUE                   = Integer.valueOf (3);
+    private static final int      NUM_COLUMNS                 = 9;
+    private static final int      NUM_OBJECTS                 = 6;
+    private static final int      MAX_TEXT_LENGTH             = 9;
+    /** Several property changes are packed into one message up to this length. */
+    private static final int      MAX_PROPERTY_MESSAGE_LENGTH = 256;
 
-    private final int [] []      displayColorCache                = new int [9] [4];
-    private final int [] []      displayValueCache                = new int [9] [4];
+    private final String [] []    displayTextCache            = new String [NUM_COLUMNS] [NUM_OBJECTS];
+    private final int [] []       displayColorCache           = new int [NUM_COLUMNS] [NUM_OBJECTS];
+    private final int [] []       displayValueCache           = new int [NUM_COLUMNS] [NUM_OBJECTS];
+    private final int []          ledColorCache               = new int [128];
 
-    private int                  selectedLayout                   = -1;
+    private final byte []         propertyMessage             = new byte [MAX_PROPERTY_MESSAGE_LENGTH];
+    private int                   propertyMessageLength       = 0;
+
+    private int                   selectedLayout              = -1;
 
 
     /**
@@ -53,6 +79,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
         super (host, output, 4 /* No of rows */, 9 /* No of cells */, 9 * 9 /* No of characters */);
 
         this.clearDisplayCache ();
+        Arrays.fill (this.ledColorCache, -1);
     }
 
 
@@ -69,6 +96,29 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        super.flush ();
+
+        this.sendProperties ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        super.forceFlush ();
+
+        // Send all texts and LEDs again
+        for (final String [] column: this.displayTextCache)
+            Arrays.fill (column, null);
+        Arrays.fill (this.ledColorCache, -1);
+    }
+
+
     /**
      * Set the layout of the display.
      *
@@ -80,7 +130,13 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.selectedLayout = layout.intValue ();
 
-        this.output.sendSysex (String.format (MKIII_SYSEX_LAYOUT_COMMAND, layout));
+        // Properties of the previous layout need to arrive before the layout changes
+        this.sendProperties ();
+
+        final byte [] message = createMessage (COMMAND_LAYOUT, 1);
+        message[MKIII_SYSEX_HEADER.length + 1] = (byte) this.selectedLayout;
+        this.output.sendSysex (message);
+
         this.clearDisplayCache ();
         this.forceFlush ();
     }
@@ -102,13 +158,25 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     /**
      * Set one of the colors of the LED faders.
      *
-     * @param led The LED index (0-7)
+     * @param led The LED index (0-127)
      * @param color The color to set
      */
     public void setFaderLEDColor (final int led, final ColorEx color)
     {
         final int [] rgb = color.toIntRGB127 ();
-        this.output.sendSysex (String.format (MKIII_SYSEX_LED_COMMAND, Integer.valueOf (led), Integer.valueOf (rgb[0]), Integer.valueOf (rgb[1]), Integer.valueOf (rgb[2])));
+        final int packed = rgb[0] << 16 | rgb[1] << 8 | rgb[2];
+        if (this.ledColorCache[led] == packed)
+            return;
+        this.ledColorCache[led] = packed;
+
+        final byte [] message = createMessage (COMMAND_LED, 5);
+        final int offset = MKIII_SYSEX_HEADER.length + 1;
+        message[offset] = (byte) led;
+        message[offset + 1] = 0x01;
+        message[offset + 2] = (byte) rgb[0];
+        message[offset + 3] = (byte) rgb[1];
+        message[offset + 4] = (byte) rgb[2];
+        this.output.sendSysex (message);
     }
 
 
@@ -125,7 +193,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayColorCache[hPosition][vPosition] = color;
 
-        this.setProperty (PROPERTY_COLOR, hPosition, vPosition, StringUtils.toHexStr (color));
+        this.addProperty (PROPERTY_COLOR, hPosition, vPosition, color);
     }
 
 
@@ -140,10 +208,16 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     private void setPropertyText (final int hPosition, final int vPosition, final String text)
     {
         String ascii = StringUtils.fixASCII (text);
-        if (ascii.length () > 9)
-            ascii = ascii.substring (0, 9);
-        final String value = StringUtils.toHexStr (ascii.getBytes ()) + "00";
-        this.setProperty (PROPERTY_TEXT, hPosition, vPosition, value);
+        if (ascii.length () > MAX_TEXT_LENGTH)
+            ascii = ascii.substring (0, MAX_TEXT_LENGTH);
+        if (ascii.equals (this.displayTextCache[hPosition][vPosition]))
+            return;
+        this.displayTextCache[hPosition][vPosition] = ascii;
+
+        // The text is terminated with a zero
+        final byte [] bytes = ascii.getBytes (StandardCharsets.US_ASCII);
+        final byte [] value = Arrays.copyOf (bytes, bytes.length + 1);
+        this.addProperty (PROPERTY_TEXT, hPosition, vPosition, value);
     }
 
 
@@ -160,22 +234,68 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayValueCache[hPosition][vPosition] = value;
 
-        this.setProperty (PROPERTY_VALUE, hPosition, vPosition, StringUtils.toHexStr (value));
+        this.addProperty (PROPERTY_VALUE, hPosition, vPosition, value);
     }
 
 
     /**
-     * Set a display property.
+     * Add a display property with a single byte value to the pending property message.
      *
      * @param property The property: PROPERTY_TEXT, PROPERTY_COLOR or PROPERTY_VALUE
      * @param hPosition The horizontal position (0-8)
      * @param vPosition The vertical position (0-5)
-     * @param values The formatted values to insert
+     * @param value The value (0-127)
      */
-    private void setProperty (final Integer property, final int hPosition, final int vPosition, final String values)
+    private void addProperty (final int property, final int hPosition, final int vPosition, final int value)
     {
-        final String msg = String.format (MKIII_SYSEX_PROPERTY_COMMAND, Integer.valueOf (hPosition), property, Integer.valueOf (vPosition), values);
-        this.output.sendSysex (msg);
+        this.addProperty (property, hPosition, vPosition, new byte []
+        {
+            (byte) value
+        });
+    }
+
+
+    /**
+     * Add a display property to the pending property message. The message is sent if there is not
+     * enough space left.
+     *
+     * @param property The property: PROPERTY_TEXT, PROPERTY_COLOR or PROPERTY_VALUE
+     * @param hPosition The horizontal position (0-8)
+     * @param vPosition The vertical position (0-5)
+     * @param value The encoded value
+     */
+    private void addProperty (final int property, final int hPosition, final int vPosition, final byte [] value)
+    {
+        // Column, property and object followed by the value and the end of the message
+        if (this.propertyMessageLength + 3 + value.length + 1 > MAX_PROPERTY_MESSAGE_LENGTH)
+            this.sendProperties ();
+
+        if (this.propertyMessageLength == 0)
+        {
+            System.arraycopy (MKIII_SYSEX_HEADER, 0, this.propertyMessage, 0, MKIII_SYSEX_HEADER.length);
+            this.propertyMessage[MKIII_SYSEX_HEADER.length] = COMMAND_PROPERTY;
+            this.propertyMessageLength = MKIII_SYSEX_HEADER.length + 1;
+        }
+
+        this.propertyMessage[this.propertyMessageLength++] = (byte) hPosition;
+        this.propertyMessage[this.propertyMessageLength++] = (byte) property;
+        this.propertyMessage[this.propertyMessageLength++] = (byte) vPosition;
+        System.arraycopy (value, 0, this.propertyMessage, this.propertyMessageLength, value.length);
+        this.propertyMessageLength += value.length;
+    }
+
+
+    /**
+     * Send all pending property changes.
+     */
+    private void sendProperties ()
+    {
+        if (this.propertyMessageLength == 0)
+            return;
+
+        this.propertyMessage[this.propertyMessageLength++] = SYSEX_END;
+        this.output.sendSysex (Arrays.copyOf (this.propertyMessage, this.propertyMessageLength));
+        this.propertyMessageLength = 0;
     }
 
 
@@ -190,7 +310,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
         if (ascii.length () > 18)
         {
             text1 = ascii.substring (0, 18);
-            text2 = ascii.substring (18, message.length ());
+            text2 = ascii.substring (18, ascii.length ());
         }
         else
         {
@@ -198,24 +318,45 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             text2 = "";
         }
 
-        final String content = StringUtils.asciiToHex (text1) + "00 " + StringUtils.asciiToHex (text2) + "00";
-        final String msg = String.format (MKIII_SYSEX_NOTIFICATION_COMMAND, content);
+        // Both lines are terminated with a zero
+        final byte [] line1 = text1.getBytes (StandardCharsets.US_ASCII);
+        final byte [] line2 = text2.getBytes (StandardCharsets.US_ASCII);
+        final byte [] msg = createMessage (COMMAND_NOTIFICATION, line1.length + line2.length + 2);
+        final int offset = MKIII_SYSEX_HEADER.length + 1;
+        System.arraycopy (line1, 0, msg, offset, line1.length);
+        System.arraycopy (line2, 0, msg, offset + line1.length + 1, line2.length);
         this.output.sendSysex (msg);
     }
 
 
     /**
-     * Clear the cache of the display colors and values.
+     * Create a system exclusive message with the header, the command and the end byte. The content
+     * is initialized with zeros.
+     *
+     * @param command The command
+     * @param contentLength The number of bytes between the command and the end byte
+     * @return The message
+     */
+    private static byte [] createMessage (final int command, final int contentLength)
+    {
+        final byte [] message = new byte [MKIII_SYSEX_HEADER.length + contentLength + 2];
+        System.arraycopy (MKIII_SYSEX_HEADER, 0, message, 0, MKIII_SYSEX_HEADER.length);
+        message[MKIII_SYSEX_HEADER.length] = (byte) command;
+        message[message.length - 1] = SYSEX_END;
+        return message;
+    }
+
+
+    /**
+     * Clear the cache of the display texts, colors and values.
      */
     private void clearDisplayCache ()
     {
-        for (int i = 0; i < 9; i++)
+        for (int i = 0; i < NUM_COLUMNS; i++)
         {
-            for (int j = 0; j < 4; j++)
-            {
-                this.displayColorCache[i][j] = -1;
-                this.displayValueCache[i][j] = -1;
-            }
+            Arrays.fill (this.displayTextCache[i], null);
+            Arrays.fill (this.displayColorCache[i], -1);
+            Arrays.fill (this.displayValueCache[i], -1);
         }
     }
 
@@ -60,6 +60,17 @@ public class SLMkIIILightGuide extends LightGuideImpl
     }
 
 
+    /**
+     * Get the scales which are used for the keyboard.
+     *
+     * @return The scales
+     */
+    public Scales getKeyboardScales ()
+    {
+        return this.keyboardScales;
+    }
+
+
     /**
      * Disable/enable the light guide.
      *
@@ -83,7 +94,7 @@ public class SLMkIIILightGuide extends LightGuideImpl
         final Scales scales = this.model.getScales ();
 
         this.keyboardScales.setScaleOffsetByIndex (scales.getScaleOffsetIndex ());
-        this.keyboardScales.setScale (scales.getScale ());
+        this.keyboardScales.setScaleByName (scales.getCurrentScaleName ());
 
         final ITrack cursorTrack = this.model.getCursorTrack ();
         for (int i = this.keyboardScales.getStartNote (); i < this.keyboardScales.getEndNote (); i++)
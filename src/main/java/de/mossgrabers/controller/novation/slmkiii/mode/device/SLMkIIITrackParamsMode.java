@@ -11,11 +11,14 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.daw.data.bank.IParameterPageBank;
+import de.mossgrabers.framework.observer.IObserverManagement;
 import de.mossgrabers.framework.parameter.IParameter;
 import de.mossgrabers.framework.parameterprovider.device.BankParameterProvider;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.List;
+
 
 /**
  * Mode for editing track remote parameters.
@@ -38,6 +41,14 @@ public class SLMkIIITrackParamsMode extends AbstractParametersMode<IParameter>
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public List<IObserverManagement> getModelDependencies ()
+    {
+        return List.of (this.bank);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onButton (final int row, final int index, final ButtonEvent event)
@@ -60,6 +60,8 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     private int                    receivePort               = 8000;
     private String                 sendHost                  = DEFAULT_SERVER;
     private int                    sendPort                  = 9000;
+    private int                    maxBundleSize             = 8192;
+    private int                    bundleDelay               = 10;
     private ValueResolution        valueResolution           = ValueResolution.LOW;
     private int                    bankPageSize              = 8;
     private final String []        assignableFunctionActions = new String [NUM_ASSIGNABLE_ACTIONS];
@@ -100,6 +102,12 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         final IIntegerSetting sendPortSetting = globalSettings.getRangeSetting ("Port to send to (requires restart)", CATEGORY_SETUP, 1024, 65535, 1, "", 9000);
         this.sendPort = sendPortSetting.get ().intValue ();
 
+        final IIntegerSetting maxBundleSizeSetting = globalSettings.getRangeSetting ("Max. bundle size (requires restart)", CATEGORY_SETUP, 512, 65507, 1, "Bytes", 8192);
+        this.maxBundleSize = maxBundleSizeSetting.get ().intValue ();
+
+        final IIntegerSetting bundleDelaySetting = globalSettings.getRangeSetting ("Delay between bundles (requires restart)", CATEGORY_SETUP, 0, 100, 1, "ms", 10);
+        this.bundleDelay = bundleDelaySetting.get ().intValue ();
+
         ///////////////////////////
         // Protocol
 
@@ -190,6 +198,28 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
+    /**
+     * Get the maximum size of an OSC bundle.
+     *
+     * @return The size in bytes
+     */
+    public int getMaxBundleSize ()
+    {
+        return this.maxBundleSize;
+    }
+
+
+    /**
+     * Get the delay between sending two OSC bundles.
+     *
+     * @return The delay in milliseconds
+     */
+    public int getBundleDelay ()
+    {
+        return this.bundleDelay;
+    }
+
+
     /**
      * Get the selected value resolution.
      *
@@ -75,6 +75,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     @Override
     public void flush ()
     {
+        this.valueChanger.getEncoderAccumulator ().flush ();
         this.writer.flush (false);
     }
 
@@ -108,6 +109,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         ms.setNumParamPages (bankPageSize);
         ms.setNumParams (bankPageSize);
         ms.setNumMarkers (bankPageSize);
+        ms.setWantsVuMeters (true);
 
         this.model = this.factory.createModel (this.configuration, this.colorManager, this.valueChanger, this.scales, ms);
     }
@@ -193,6 +195,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         final int sendPort = this.configuration.getSendPort ();
         this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
         final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort);
+        oscClient.setTransmissionLimits (this.configuration.getMaxBundleSize (), this.configuration.getBundleDelay ());
         this.writer = new OSCWriter (this.host, this.model, oscClient, this.configuration);
 
         // Receive OSC messages
@@ -225,6 +228,9 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     @Override
     public void startup ()
     {
+        // VU meters are updated independently of the active mode
+        this.host.getVuMeterManager ().acquire ();
+
         // Initial flush of the whole DAW state
         this.host.scheduleTask ( () -> this.writer.flush (true), 1000);
     }
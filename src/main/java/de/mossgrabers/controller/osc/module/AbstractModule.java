@@ -200,6 +200,45 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /**
+     * Flush all data of a parameter to its registered address slots.
+     *
+     * @param writer Where to send the messages to
+     * @param slots The slots of the parameter
+     * @param fxParam The parameter
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    protected void flushParameterData (final IOpenSoundControlWriter writer, final ParameterSlots slots, final IParameter fxParam, final boolean dump)
+    {
+        if (slots.isSend && fxParam instanceof final ISend send)
+            writer.sendOSC (slots.activated, send.isEnabled (), dump);
+
+        writer.sendOSC (slots.exists, fxParam.doesExist (), dump);
+        writer.sendOSC (slots.name, fxParam.getName (), dump);
+        writer.sendOSC (slots.valueStr, fxParam.getDisplayedValue (), dump);
+        writer.sendOSC (slots.value, fxParam.getValue (), dump);
+        writer.sendOSC (slots.modulatedValue, fxParam.getModulatedValue (), dump);
+    }
+
+
+    /**
+     * Flush all data of a parameter page to its registered address slots.
+     *
+     * @param writer Where to send the messages to
+     * @param slots The slots of the page
+     * @param pageName The name of the page
+     * @param isSelected True if the page is selected
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    protected void flushPageData (final IOpenSoundControlWriter writer, final PageSlots slots, final String pageName, final boolean isSelected, final boolean dump)
+    {
+        writer.sendOSC (slots.exists, !pageName.isBlank (), dump);
+        writer.sendOSC (slots.page, pageName, dump);
+        writer.sendOSC (slots.name, pageName, dump);
+        writer.sendOSC (slots.selected, isSelected, dump);
+    }
+
+
     protected static Optional<ColorEx> matchColor (final String value)
     {
         final Matcher matcher = RGB_COLOR_PATTERN.matcher (value);
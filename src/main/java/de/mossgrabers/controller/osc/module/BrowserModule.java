@@ -127,6 +127,9 @@ public class BrowserModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
+        if (!this.writer.isSubscribed ("/browser/"))
+            return;
+
         final String browserAddress = "/browser/";
         final IBrowser browser = this.model.getBrowser ();
 
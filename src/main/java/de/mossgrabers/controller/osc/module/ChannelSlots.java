@@ -0,0 +1,78 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.module;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlValueType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The registered OSC address slots of a channel (track, layer or drum pad).
+ *
+ * @author Jürgen Moßgraber
+ */
+class ChannelSlots
+{
+    protected final IOpenSoundControlWriter writer;
+    protected final String                  address;
+
+    final int                               exists;
+    final int                               activated;
+    final int                               selected;
+    final int                               name;
+    final int                               volumeStr;
+    final int                               volume;
+    final int                               panStr;
+    final int                               pan;
+    final int                               mute;
+    final int                               solo;
+    final int                               vu;
+    final int                               color;
+
+    private final List<ParameterSlots>      sends = new ArrayList<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param writer The writer with which to register the addresses
+     * @param address The start address for the channel
+     */
+    ChannelSlots (final IOpenSoundControlWriter writer, final String address)
+    {
+        this.writer = writer;
+        this.address = address;
+
+        this.exists = writer.registerAddress (address + AbstractModule.TAG_EXISTS, OpenSoundControlValueType.BOOLEAN);
+        this.activated = writer.registerAddress (address + AbstractModule.TAG_ACTIVATED, OpenSoundControlValueType.BOOLEAN);
+        this.selected = writer.registerAddress (address + AbstractModule.TAG_SELECTED, OpenSoundControlValueType.BOOLEAN);
+        this.name = writer.registerAddress (address + AbstractModule.TAG_NAME, OpenSoundControlValueType.STRING);
+        this.volumeStr = writer.registerAddress (address + "volumeStr", OpenSoundControlValueType.STRING);
+        this.volume = writer.registerAddress (address + AbstractModule.TAG_VOLUME, OpenSoundControlValueType.INT);
+        this.panStr = writer.registerAddress (address + "panStr", OpenSoundControlValueType.STRING);
+        this.pan = writer.registerAddress (address + "pan", OpenSoundControlValueType.INT);
+        this.mute = writer.registerAddress (address + "mute", OpenSoundControlValueType.BOOLEAN);
+        this.solo = writer.registerAddress (address + "solo", OpenSoundControlValueType.BOOLEAN);
+        this.vu = writer.registerAddress (address + "vu", OpenSoundControlValueType.INT);
+        this.color = writer.registerAddress (address + AbstractModule.TAG_COLOR, OpenSoundControlValueType.COLOR);
+    }
+
+
+    /**
+     * Get the slots of a send. The addresses are registered on first use.
+     *
+     * @param index The index of the send on the page
+     * @return The slots
+     */
+    ParameterSlots getSend (final int index)
+    {
+        while (this.sends.size () <= index)
+            this.sends.add (new ParameterSlots (this.writer, this.address + "send/" + (this.sends.size () + 1) + "/", true));
+        return this.sends.get (index);
+    }
+}
@@ -4,13 +4,16 @@
 
 package de.mossgrabers.controller.osc.module;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
 
 import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCAddressTrie;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -33,6 +36,7 @@ import de.mossgrabers.framework.daw.data.bank.ISendBank;
 import de.mossgrabers.framework.daw.data.empty.EmptyLayer;
 import de.mossgrabers.framework.daw.data.empty.EmptyParameter;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlValueType;
 import de.mossgrabers.framework.parameter.IFocusedParameter;
 import de.mossgrabers.framework.parameter.IParameter;
 
@@ -44,7 +48,16 @@ import de.mossgrabers.framework.parameter.IParameter;
  */
 public class DeviceModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private final OSCConfiguration   configuration;
+
+    private final DeviceSlots        cursorDeviceSlots;
+    private final DeviceSlots        primaryDeviceSlots;
+    private final DeviceSlots        eqDeviceSlots;
+    private final int                pinnedSlot;
+    private final List<ChannelSlots> drumPadSlots = new ArrayList<> ();
+    private final List<ChannelSlots> layerSlots   = new ArrayList<> ();
+    private final ChannelSlots       selectedLayerSlots;
+    private final ParameterSlots     lastParameterSlots;
 
 
     /**
@@ -60,6 +73,13 @@ public class DeviceModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+
+        this.cursorDeviceSlots = new DeviceSlots (writer, "/device/");
+        this.primaryDeviceSlots = new DeviceSlots (writer, "/primary/");
+        this.eqDeviceSlots = new DeviceSlots (writer, "/eq/");
+        this.pinnedSlot = writer.registerAddress ("/device/pinned", OpenSoundControlValueType.BOOLEAN);
+        this.selectedLayerSlots = new ChannelSlots (writer, "/device/layer/selected/");
+        this.lastParameterSlots = new ParameterSlots (writer, "/device/lastparam/", false);
     }
 
 
@@ -76,6 +96,15 @@ public class DeviceModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerAddresses (final OSCAddressTrie addressTrie)
+    {
+        addressTrie.register ("/device/param/#/value", (paramNo, value) -> this.model.getCursorDevice ().getParameterBank ().getItem (paramNo - 1).setValue (toInteger (value)));
+        addressTrie.register ("/primary/param/#/value", (paramNo, value) -> this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT).getParameterBank ().getItem (paramNo - 1).setValue (toInteger (value)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
@@ -106,28 +135,36 @@ public class DeviceModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
+        if (this.writer.isSubscribed ("/primary/"))
+            this.flushDevice (this.writer, this.primaryDeviceSlots, this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), dump);
+        if (this.writer.isSubscribed ("/eq/"))
+            this.flushDevice (this.writer, this.eqDeviceSlots, this.model.getSpecificDevice (DeviceID.EQ), dump);
+
+        if (!this.writer.isSubscribed ("/device/"))
+            return;
+
         final ICursorDevice cd = this.model.getCursorDevice ();
-        this.flushDevice (this.writer, "/device/", cd, dump);
-        this.writer.sendOSC ("/device/pinned", cd.isPinned (), dump);
-        if (cd.hasDrumPads ())
+        this.flushDevice (this.writer, this.cursorDeviceSlots, cd, dump);
+        this.writer.sendOSC (this.pinnedSlot, cd.isPinned (), dump);
+        if (cd.hasDrumPads () && this.writer.isSubscribed ("/device/drumpad/"))
         {
             final IDrumPadBank drumPadBank = cd.getDrumPadBank ();
             for (int i = 0; i < drumPadBank.getPageSize (); i++)
-                this.flushDeviceLayer (this.writer, "/device/drumpad/" + (i + 1) + "/", drumPadBank.getItem (i), dump);
+                this.flushDeviceLayer (this.writer, getChannelSlots (this.writer, this.drumPadSlots, "/device/drumpad/", i), drumPadBank.getItem (i), dump);
+        }
+        if (this.writer.isSubscribed ("/device/layer/"))
+        {
+            final ILayerBank layerBank = cd.getLayerBank ();
+            for (int i = 0; i < layerBank.getPageSize (); i++)
+                this.flushDeviceLayer (this.writer, getChannelSlots (this.writer, this.layerSlots, "/device/layer/", i), layerBank.getItem (i), dump);
+            final Optional<ILayer> selectedLayer = layerBank.getSelectedItem ();
+            this.flushDeviceLayer (this.writer, this.selectedLayerSlots, selectedLayer.isEmpty () ? EmptyLayer.getInstance (layerBank.getPageSize ()) : selectedLayer.get (), dump);
         }
-        final ILayerBank layerBank = cd.getLayerBank ();
-        for (int i = 0; i < layerBank.getPageSize (); i++)
-            this.flushDeviceLayer (this.writer, "/device/layer/" + (i + 1) + "/", layerBank.getItem (i), dump);
-        final Optional<ILayer> selectedLayer = layerBank.getSelectedItem ();
-        this.flushDeviceLayer (this.writer, "/device/layer/selected/", selectedLayer.isEmpty () ? EmptyLayer.getInstance (layerBank.getPageSize ()) : selectedLayer.get (), dump);
-
-        this.flushDevice (this.writer, "/primary/", this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), dump);
-        this.flushDevice (this.writer, "/eq/", this.model.getSpecificDevice (DeviceID.EQ), dump);
 
         // Last hovered/clicked parameter
         final Optional<IFocusedParameter> focusedParameter = this.model.getFocusedParameter ();
         final IParameter param = focusedParameter.isPresent () ? focusedParameter.get () : EmptyParameter.INSTANCE;
-        this.flushParameterData (this.writer, "/device/lastparam/", param, dump);
+        this.flushParameterData (this.writer, this.lastParameterSlots, param, dump);
     }
 
 
@@ -135,29 +172,28 @@ public class DeviceModule extends AbstractModule
      * Flush all data of a device.
      *
      * @param writer Where to send the messages to
-     * @param deviceAddress The start address for the device
+     * @param slots The address slots of the device
      * @param device The device
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDevice (final IOpenSoundControlWriter writer, final String deviceAddress, final ISpecificDevice device, final boolean dump)
+    private void flushDevice (final IOpenSoundControlWriter writer, final DeviceSlots slots, final ISpecificDevice device, final boolean dump)
     {
-        writer.sendOSC (deviceAddress + TAG_EXISTS, device.doesExist (), dump);
-        writer.sendOSC (deviceAddress + TAG_NAME, device.getName (), dump);
-        writer.sendOSC (deviceAddress + TAG_BYPASS, !device.isEnabled (), dump);
-        writer.sendOSC (deviceAddress + "expand", device.isExpanded (), dump);
-        writer.sendOSC (deviceAddress + "parameters", device.isParameterPageSectionVisible (), dump);
-        writer.sendOSC (deviceAddress + "window", device.isWindowOpen (), dump);
+        writer.sendOSC (slots.exists, device.doesExist (), dump);
+        writer.sendOSC (slots.name, device.getName (), dump);
+        writer.sendOSC (slots.bypass, !device.isEnabled (), dump);
+        writer.sendOSC (slots.expand, device.isExpanded (), dump);
+        writer.sendOSC (slots.parameters, device.isParameterPageSectionVisible (), dump);
+        writer.sendOSC (slots.window, device.isWindowOpen (), dump);
 
         if (device instanceof final IEqualizerDevice equalizer)
         {
             for (int i = 0; i < equalizer.getBandCount (); i++)
             {
-                final int oneplus = i + 1;
-
-                writer.sendOSC (deviceAddress + "type/" + oneplus + "/value", equalizer.getTypeID (i).name ().toLowerCase (), dump);
-                this.flushParameterData (writer, deviceAddress + "gain/" + oneplus + "/", equalizer.getGainParameter (i), dump);
-                this.flushParameterData (writer, deviceAddress + "freq/" + oneplus + "/", equalizer.getFrequencyParameter (i), dump);
-                this.flushParameterData (writer, deviceAddress + "q/" + oneplus + "/", equalizer.getQParameter (i), dump);
+                final BandSlots bandSlots = slots.getBand (i);
+                writer.sendOSC (bandSlots.type, equalizer.getTypeID (i).name ().toLowerCase (), dump);
+                this.flushParameterData (writer, bandSlots.gain, equalizer.getGainParameter (i), dump);
+                this.flushParameterData (writer, bandSlots.frequency, equalizer.getFrequencyParameter (i), dump);
+                this.flushParameterData (writer, bandSlots.q, equalizer.getQParameter (i), dump);
             }
             return;
         }
@@ -168,37 +204,25 @@ public class DeviceModule extends AbstractModule
             final IDeviceBank deviceBank = cursorDevice.getDeviceBank ();
             for (int i = 0; i < deviceBank.getPageSize (); i++)
             {
-                final int oneplus = i + 1;
                 final IDevice siblingDevice = deviceBank.getItem (i);
-                final String siblingAddress = deviceAddress + "sibling/" + oneplus + "/";
-                writer.sendOSC (siblingAddress + TAG_EXISTS, siblingDevice.doesExist (), dump);
-                writer.sendOSC (siblingAddress + TAG_NAME, siblingDevice.getName (), dump);
-                writer.sendOSC (siblingAddress + TAG_BYPASS, !siblingDevice.isEnabled (), dump);
-                writer.sendOSC (siblingAddress + TAG_SELECTED, i == positionInBank, dump);
+                final SiblingSlots siblingSlots = slots.getSibling (i);
+                writer.sendOSC (siblingSlots.exists, siblingDevice.doesExist (), dump);
+                writer.sendOSC (siblingSlots.name, siblingDevice.getName (), dump);
+                writer.sendOSC (siblingSlots.bypass, !siblingDevice.isEnabled (), dump);
+                writer.sendOSC (siblingSlots.selected, i == positionInBank, dump);
             }
         }
 
         final IParameterBank parameterBank = device.getParameterBank ();
         for (int i = 0; i < parameterBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            this.flushParameterData (writer, deviceAddress + "param/" + oneplus + "/", parameterBank.getItem (i), dump);
-        }
+            this.flushParameterData (writer, slots.getParameter (i), parameterBank.getItem (i), dump);
 
         final IParameterPageBank parameterPageBank = device.getParameterBank ().getPageBank ();
         final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
         for (int i = 0; i < parameterPageBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            final String pageName = parameterPageBank.getItem (i);
-            final String pageAddress = deviceAddress + "page/" + oneplus + "/";
-            writer.sendOSC (pageAddress + TAG_EXISTS, !pageName.isBlank (), dump);
-            writer.sendOSC (pageAddress, pageName, dump);
-            writer.sendOSC (pageAddress + TAG_NAME, pageName, dump);
-            writer.sendOSC (pageAddress + TAG_SELECTED, selectedParameterPage == i, dump);
-        }
+            this.flushPageData (writer, slots.getPage (i), parameterPageBank.getItem (i), selectedParameterPage == i, dump);
         final Optional<String> selectedItem = parameterPageBank.getSelectedItem ();
-        writer.sendOSC (deviceAddress + "page/selected/" + TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
+        writer.sendOSC (slots.selectedPageName, selectedItem.isPresent () ? selectedItem.get () : "", dump);
     }
 
 
@@ -206,35 +230,43 @@ public class DeviceModule extends AbstractModule
      * Flush all data of a device layer.
      *
      * @param writer Where to send the messages to
-     * @param deviceAddress The start address for the device
+     * @param slots The address slots of the layer
      * @param channel The channel of the layer
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDeviceLayer (final IOpenSoundControlWriter writer, final String deviceAddress, final IChannel channel, final boolean dump)
+    private void flushDeviceLayer (final IOpenSoundControlWriter writer, final ChannelSlots slots, final IChannel channel, final boolean dump)
     {
         if (channel == null)
             return;
 
-        writer.sendOSC (deviceAddress + TAG_EXISTS, channel.doesExist (), dump);
-        writer.sendOSC (deviceAddress + TAG_ACTIVATED, channel.isActivated (), dump);
-        writer.sendOSC (deviceAddress + TAG_SELECTED, channel.isSelected (), dump);
-        writer.sendOSC (deviceAddress + TAG_NAME, channel.getName (), dump);
-        writer.sendOSC (deviceAddress + "volumeStr", channel.getVolumeStr (), dump);
-        writer.sendOSC (deviceAddress + TAG_VOLUME, channel.getVolume (), dump);
-        writer.sendOSC (deviceAddress + "panStr", channel.getPanStr (), dump);
-        writer.sendOSC (deviceAddress + "pan", channel.getPan (), dump);
-        writer.sendOSC (deviceAddress + "mute", channel.isMute (), dump);
-        writer.sendOSC (deviceAddress + "solo", channel.isSolo (), dump);
+        writer.sendOSC (slots.exists, channel.doesExist (), dump);
+        writer.sendOSC (slots.activated, channel.isActivated (), dump);
+        writer.sendOSC (slots.selected, channel.isSelected (), dump);
+        writer.sendOSC (slots.name, channel.getName (), dump);
+        writer.sendOSC (slots.volumeStr, channel.getVolumeStr (), dump);
+        writer.sendOSC (slots.volume, channel.getVolume (), dump);
+        writer.sendOSC (slots.panStr, channel.getPanStr (), dump);
+        writer.sendOSC (slots.pan, channel.getPan (), dump);
+        writer.sendOSC (slots.mute, channel.isMute (), dump);
+        writer.sendOSC (slots.solo, channel.isSolo (), dump);
 
         final ISendBank sendBank = channel.getSendBank ();
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, deviceAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, slots.getSend (i), sendBank.getItem (i), dump);
 
         if (this.configuration.isEnableVUMeters ())
-            writer.sendOSC (deviceAddress + "vu", channel.getVu (), dump);
+            writer.sendOSC (slots.vu, channel.getVu (), dump);
 
         final ColorEx color = channel.getColor ();
-        writer.sendOSCColor (deviceAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (slots.color, color.getRed (), color.getGreen (), color.getBlue (), dump);
+    }
+
+
+    private static ChannelSlots getChannelSlots (final IOpenSoundControlWriter writer, final List<ChannelSlots> slots, final String address, final int index)
+    {
+        while (slots.size () <= index)
+            slots.add (new ChannelSlots (writer, address + (slots.size () + 1) + "/"));
+        return slots.get (index);
     }
 
 
@@ -680,4 +712,115 @@ public class DeviceModule extends AbstractModule
                 throw new UnknownCommandException (command);
         }
     }
+
+
+    /**
+     * The registered OSC address slots of a device.
+     */
+    private static class DeviceSlots
+    {
+        final int                             exists;
+        final int                             name;
+        final int                             bypass;
+        final int                             expand;
+        final int                             parameters;
+        final int                             window;
+        final int                             selectedPageName;
+
+        private final IOpenSoundControlWriter writer;
+        private final String                  deviceAddress;
+        private final List<BandSlots>         bands          = new ArrayList<> ();
+        private final List<SiblingSlots>      siblings       = new ArrayList<> ();
+        private final List<ParameterSlots>    parameterSlots = new ArrayList<> ();
+        private final List<PageSlots>         pages          = new ArrayList<> ();
+
+
+        DeviceSlots (final IOpenSoundControlWriter writer, final String deviceAddress)
+        {
+            this.writer = writer;
+            this.deviceAddress = deviceAddress;
+
+            this.exists = writer.registerAddress (deviceAddress + TAG_EXISTS, OpenSoundControlValueType.BOOLEAN);
+            this.name = writer.registerAddress (deviceAddress + TAG_NAME, OpenSoundControlValueType.STRING);
+            this.bypass = writer.registerAddress (deviceAddress + TAG_BYPASS, OpenSoundControlValueType.BOOLEAN);
+            this.expand = writer.registerAddress (deviceAddress + "expand", OpenSoundControlValueType.BOOLEAN);
+            this.parameters = writer.registerAddress (deviceAddress + "parameters", OpenSoundControlValueType.BOOLEAN);
+            this.window = writer.registerAddress (deviceAddress + "window", OpenSoundControlValueType.BOOLEAN);
+            this.selectedPageName = writer.registerAddress (deviceAddress + "page/selected/" + TAG_NAME, OpenSoundControlValueType.STRING);
+        }
+
+
+        BandSlots getBand (final int index)
+        {
+            while (this.bands.size () <= index)
+                this.bands.add (new BandSlots (this.writer, this.deviceAddress, this.bands.size () + 1));
+            return this.bands.get (index);
+        }
+
+
+        SiblingSlots getSibling (final int index)
+        {
+            while (this.siblings.size () <= index)
+                this.siblings.add (new SiblingSlots (this.writer, this.deviceAddress + "sibling/" + (this.siblings.size () + 1) + "/"));
+            return this.siblings.get (index);
+        }
+
+
+        ParameterSlots getParameter (final int index)
+        {
+            while (this.parameterSlots.size () <= index)
+                this.parameterSlots.add (new ParameterSlots (this.writer, this.deviceAddress + "param/" + (this.parameterSlots.size () + 1) + "/", false));
+            return this.parameterSlots.get (index);
+        }
+
+
+        PageSlots getPage (final int index)
+        {
+            while (this.pages.size () <= index)
+                this.pages.add (new PageSlots (this.writer, this.deviceAddress + "page/" + (this.pages.size () + 1) + "/"));
+            return this.pages.get (index);
+        }
+    }
+
+
+    /**
+     * The registered OSC address slots of a sibling device.
+     */
+    private static class SiblingSlots
+    {
+        final int exists;
+        final int name;
+        final int bypass;
+        final int selected;
+
+
+        SiblingSlots (final IOpenSoundControlWriter writer, final String siblingAddress)
+        {
+            this.exists = writer.registerAddress (siblingAddress + TAG_EXISTS, OpenSoundControlValueType.BOOLEAN);
+            this.name = writer.registerAddress (siblingAddress + TAG_NAME, OpenSoundControlValueType.STRING);
+            this.bypass = writer.registerAddress (siblingAddress + TAG_BYPASS, OpenSoundControlValueType.BOOLEAN);
+            this.selected = writer.registerAddress (siblingAddress + TAG_SELECTED, OpenSoundControlValueType.BOOLEAN);
+        }
+    }
+
+
+    /**
+     * The registered OSC address slots of an equalizer band.
+     */
+    private static class BandSlots
+    {
+        final int            type;
+        final ParameterSlots gain;
+        final ParameterSlots frequency;
+        final ParameterSlots q;
+
+
+        BandSlots (final IOpenSoundControlWriter writer, final String deviceAddress, final int oneplus)
+        {
+            this.type = writer.registerAddress (deviceAddress + "type/" + oneplus + "/value", OpenSoundControlValueType.STRING);
+            this.gain = new ParameterSlots (writer, deviceAddress + "gain/" + oneplus + "/", false);
+            this.frequency = new ParameterSlots (writer, deviceAddress + "freq/" + oneplus + "/", false);
+            this.q = new ParameterSlots (writer, deviceAddress + "q/" + oneplus + "/", false);
+        }
+    }
 }
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCAddressTrie;
 
 import java.util.LinkedList;
 
@@ -26,6 +27,18 @@ public interface IModule
     String [] getSupportedCommands ();
 
 
+    /**
+     * Register handlers for frequently used addresses. Messages with these addresses are
+     * dispatched directly to the handler instead of being parsed by execute.
+     *
+     * @param addressTrie Where to register the address patterns
+     */
+    default void registerAddresses (final OSCAddressTrie addressTrie)
+    {
+        // Intentionally empty
+    }
+
+
     /**
      * Parse and execute an OSC command.
      *
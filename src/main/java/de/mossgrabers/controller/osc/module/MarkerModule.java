@@ -93,6 +93,9 @@ public class MarkerModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
+        if (!this.writer.isSubscribed ("/marker/"))
+            return;
+
         final IMarkerBank markerBank = this.model.getMarkerBank ();
         for (int i = 0; i < markerBank.getPageSize (); i++)
         {
@@ -0,0 +1,37 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.module;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlValueType;
+
+
+/**
+ * The registered OSC address slots of a parameter page.
+ *
+ * @author Jürgen Moßgraber
+ */
+class PageSlots
+{
+    final int exists;
+    final int page;
+    final int name;
+    final int selected;
+
+
+    /**
+     * Constructor.
+     *
+     * @param writer The writer with which to register the addresses
+     * @param pageAddress The start address for the page
+     */
+    PageSlots (final IOpenSoundControlWriter writer, final String pageAddress)
+    {
+        this.exists = writer.registerAddress (pageAddress + AbstractModule.TAG_EXISTS, OpenSoundControlValueType.BOOLEAN);
+        this.page = writer.registerAddress (pageAddress, OpenSoundControlValueType.STRING);
+        this.name = writer.registerAddress (pageAddress + AbstractModule.TAG_NAME, OpenSoundControlValueType.STRING);
+        this.selected = writer.registerAddress (pageAddress + AbstractModule.TAG_SELECTED, OpenSoundControlValueType.BOOLEAN);
+    }
+}
@@ -0,0 +1,44 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.module;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlValueType;
+
+
+/**
+ * The registered OSC address slots of a parameter or send.
+ *
+ * @author Jürgen Moßgraber
+ */
+class ParameterSlots
+{
+    final boolean isSend;
+    final int     activated;
+    final int     exists;
+    final int     name;
+    final int     valueStr;
+    final int     value;
+    final int     modulatedValue;
+
+
+    /**
+     * Constructor.
+     *
+     * @param writer The writer with which to register the addresses
+     * @param fxAddress The start address for the parameter
+     * @param isSend True if the parameter is a send
+     */
+    ParameterSlots (final IOpenSoundControlWriter writer, final String fxAddress, final boolean isSend)
+    {
+        this.isSend = isSend;
+        this.activated = isSend ? writer.registerAddress (fxAddress + AbstractModule.TAG_ACTIVATED, OpenSoundControlValueType.BOOLEAN) : -1;
+        this.exists = writer.registerAddress (fxAddress + AbstractModule.TAG_EXISTS, OpenSoundControlValueType.BOOLEAN);
+        this.name = writer.registerAddress (fxAddress + AbstractModule.TAG_NAME, OpenSoundControlValueType.STRING);
+        this.valueStr = writer.registerAddress (fxAddress + (isSend ? "volumeStr" : "valueStr"), OpenSoundControlValueType.STRING);
+        this.value = writer.registerAddress (fxAddress + (isSend ? AbstractModule.TAG_VOLUME : "value"), OpenSoundControlValueType.INT);
+        this.modulatedValue = writer.registerAddress (fxAddress + "modulatedValue", OpenSoundControlValueType.INT);
+    }
+}
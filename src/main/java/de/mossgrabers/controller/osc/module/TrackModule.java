@@ -4,7 +4,9 @@
 
 package de.mossgrabers.controller.osc.module;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 
@@ -12,6 +14,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCAddressTrie;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
@@ -28,6 +31,7 @@ import de.mossgrabers.framework.daw.data.bank.ISlotBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlValueType;
 import de.mossgrabers.framework.parameter.IParameter;
 
 
@@ -38,7 +42,16 @@ import de.mossgrabers.framework.parameter.IParameter;
  */
 public class TrackModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private final OSCConfiguration     configuration;
+
+    private final List<TrackSlots>     trackSlots     = new ArrayList<> ();
+    private final TrackSlots           masterSlots;
+    private final TrackSlots           selectedSlots;
+    private final List<ParameterSlots> parameterSlots = new ArrayList<> ();
+    private final List<PageSlots>      pageSlots      = new ArrayList<> ();
+    private final int                  toggleBankSlot;
+    private final int                  hasParentSlot;
+    private final int                  selectedPageNameSlot;
 
 
     /**
@@ -54,6 +67,12 @@ public class TrackModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+
+        this.masterSlots = new TrackSlots (writer, "/master/");
+        this.selectedSlots = new TrackSlots (writer, "/track/selected/");
+        this.toggleBankSlot = writer.registerAddress ("/track/toggleBank", OpenSoundControlValueType.INT);
+        this.hasParentSlot = writer.registerAddress ("/track/hasParent", OpenSoundControlValueType.BOOLEAN);
+        this.selectedPageNameSlot = writer.registerAddress ("/track/page/selected/" + TAG_NAME, OpenSoundControlValueType.STRING);
     }
 
 
@@ -69,6 +88,22 @@ public class TrackModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerAddresses (final OSCAddressTrie addressTrie)
+    {
+        addressTrie.register ("/track/#/volume", (trackNo, value) -> this.model.getCurrentTrackBank ().getItem (trackNo - 1).setVolume (toInteger (value)));
+        addressTrie.register ("/track/#/pan", (trackNo, value) -> this.model.getCurrentTrackBank ().getItem (trackNo - 1).setPan (toInteger (value)));
+        addressTrie.register ("/track/#/send/#/volume", (trackNo, sendNo, value) -> {
+            final ISend send = this.model.getCurrentTrackBank ().getItem (trackNo - 1).getSendBank ().getItem (sendNo - 1);
+            if (send != null)
+                send.setValue (toInteger (value));
+        });
+        addressTrie.register ("/master/volume", value -> this.model.getMasterTrack ().setVolume (toInteger (value)));
+        addressTrie.register ("/master/pan", value -> this.model.getMasterTrack ().setPan (toInteger (value)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
@@ -102,38 +137,41 @@ public class TrackModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
+        if (this.writer.isSubscribed ("/master/"))
+            this.flushTrack (this.writer, this.masterSlots, this.model.getMasterTrack (), dump);
+
+        if (!this.writer.isSubscribed ("/track/"))
+            return;
+
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
         for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
-        this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), dump);
+        {
+            final TrackSlots slots = this.getTrackSlots (i);
+            if (this.writer.isSubscribed (slots.address))
+                this.flushTrack (this.writer, slots, trackBank.getItem (i), dump);
+        }
         final ICursorTrack cursorTrack = this.model.getCursorTrack ();
-        this.flushTrack (this.writer, "/track/selected/", cursorTrack, dump);
-        this.writer.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
-        this.writer.sendOSC ("/track/hasParent", trackBank.hasParent (), dump);
+        if (this.writer.isSubscribed (this.selectedSlots.address))
+            this.flushTrack (this.writer, this.selectedSlots, cursorTrack, dump);
+        this.writer.sendOSC (this.toggleBankSlot, this.model.isEffectTrackBankActive () ? 1 : 0, dump);
+        this.writer.sendOSC (this.hasParentSlot, trackBank.hasParent (), dump);
 
         // Flush track parameters
-        final String paramAddress = "/track/param/";
         final IParameterBank parameterBank = this.model.getCursorTrack ().getParameterBank ();
-        for (int i = 0; i < parameterBank.getPageSize (); i++)
+        if (this.writer.isSubscribed ("/track/param/"))
         {
-            final int oneplus = i + 1;
-            this.flushParameterData (this.writer, paramAddress + oneplus + "/", parameterBank.getItem (i), dump);
+            for (int i = 0; i < parameterBank.getPageSize (); i++)
+                this.flushParameterData (this.writer, this.getParameterSlots (i), parameterBank.getItem (i), dump);
         }
 
+        if (!this.writer.isSubscribed ("/track/page/"))
+            return;
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
         final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
         for (int i = 0; i < parameterPageBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            final String pageName = parameterPageBank.getItem (i);
-            final String pageAddress = "/track/page/" + oneplus + "/";
-            this.writer.sendOSC (pageAddress + TAG_EXISTS, !pageName.isBlank (), dump);
-            this.writer.sendOSC (pageAddress, pageName, dump);
-            this.writer.sendOSC (pageAddress + TAG_NAME, pageName, dump);
-            this.writer.sendOSC (pageAddress + TAG_SELECTED, selectedParameterPage == i, dump);
-        }
+            this.flushPageData (this.writer, this.getPageSlots (i), parameterPageBank.getItem (i), selectedParameterPage == i, dump);
         final Optional<String> selectedItem = parameterPageBank.getSelectedItem ();
-        this.writer.sendOSC ("/track/page/selected/" + TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
+        this.writer.sendOSC (this.selectedPageNameSlot, selectedItem.isPresent () ? selectedItem.get () : "", dump);
     }
 
 
@@ -141,68 +179,92 @@ public class TrackModule extends AbstractModule
      * Flush all data of a track.
      *
      * @param writer Where to send the messages to
-     * @param trackAddress The start address for the track
+     * @param slots The address slots of the track
      * @param track The track
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final IOpenSoundControlWriter writer, final TrackSlots slots, final ITrack track, final boolean dump)
     {
-        writer.sendOSC (trackAddress + TAG_EXISTS, track.doesExist (), dump);
+        writer.sendOSC (slots.exists, track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        writer.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (Locale.US), dump);
-        writer.sendOSC (trackAddress + TAG_ACTIVATED, track.isActivated (), dump);
-        writer.sendOSC (trackAddress + TAG_SELECTED, track.isSelected (), dump);
-        writer.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        writer.sendOSC (trackAddress + TAG_NAME, track.getName (), dump);
-        writer.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        writer.sendOSC (trackAddress + TAG_VOLUME, track.getVolume (), dump);
-        writer.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        writer.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        writer.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        writer.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        writer.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        writer.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        writer.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        writer.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        writer.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        writer.sendOSC (trackAddress + "position", track.getPosition (), dump);
+        writer.sendOSC (slots.type, type == null ? null : type.name ().toLowerCase (Locale.US), dump);
+        writer.sendOSC (slots.activated, track.isActivated (), dump);
+        writer.sendOSC (slots.selected, track.isSelected (), dump);
+        writer.sendOSC (slots.isGroup, track.isGroup (), dump);
+        writer.sendOSC (slots.name, track.getName (), dump);
+        writer.sendOSC (slots.volumeStr, track.getVolumeStr (), dump);
+        writer.sendOSC (slots.volume, track.getVolume (), dump);
+        writer.sendOSC (slots.panStr, track.getPanStr (), dump);
+        writer.sendOSC (slots.pan, track.getPan (), dump);
+        writer.sendOSC (slots.mute, track.isMute (), dump);
+        writer.sendOSC (slots.solo, track.isSolo (), dump);
+        writer.sendOSC (slots.recarm, track.isRecArm (), dump);
+        writer.sendOSC (slots.monitor, track.isMonitor (), dump);
+        writer.sendOSC (slots.autoMonitor, track.isAutoMonitor (), dump);
+        writer.sendOSC (slots.canHoldNotes, track.canHoldNotes (), dump);
+        writer.sendOSC (slots.canHoldAudioData, track.canHoldAudioData (), dump);
+        writer.sendOSC (slots.position, track.getPosition (), dump);
 
         if (track instanceof final ICursorTrack cursorTrack)
-            writer.sendOSC (trackAddress + "pinned", cursorTrack.isPinned (), dump);
+            writer.sendOSC (slots.pinned, cursorTrack.isPinned (), dump);
 
         final ISendBank sendBank = track.getSendBank ();
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, trackAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, slots.getSend (i), sendBank.getItem (i), dump);
 
         final ISlotBank slotBank = track.getSlotBank ();
         for (int i = 0; i < slotBank.getPageSize (); i++)
         {
             final ISlot slot = slotBank.getItem (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            writer.sendOSC (clipAddress + TAG_NAME, slot.getName (), dump);
-            writer.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            writer.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            writer.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            writer.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            writer.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            writer.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            writer.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
+            final ClipSlots clipSlots = slots.getClip (i);
+            writer.sendOSC (clipSlots.name, slot.getName (), dump);
+            writer.sendOSC (clipSlots.isSelected, slot.isSelected (), dump);
+            writer.sendOSC (clipSlots.hasContent, slot.hasContent (), dump);
+            writer.sendOSC (clipSlots.isPlaying, slot.isPlaying (), dump);
+            writer.sendOSC (clipSlots.isRecording, slot.isRecording (), dump);
+            writer.sendOSC (clipSlots.isPlayingQueued, slot.isPlayingQueued (), dump);
+            writer.sendOSC (clipSlots.isRecordingQueued, slot.isRecordingQueued (), dump);
+            writer.sendOSC (clipSlots.isStopQueued, slot.isStopQueued (), dump);
 
             final ColorEx color = slot.getColor ();
-            writer.sendOSCColor (clipAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+            writer.sendOSCColor (clipSlots.color, color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
 
         final ColorEx color = track.getColor ();
-        writer.sendOSCColor (trackAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (slots.color, color.getRed (), color.getGreen (), color.getBlue (), dump);
 
         final String crossfadeMode = track.getCrossfadeParameter ().getDisplayedValue ();
-        writer.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
+        writer.sendOSC (slots.crossfadeModeA, "A".equals (crossfadeMode), dump);
+        writer.sendOSC (slots.crossfadeModeB, "B".equals (crossfadeMode), dump);
+        writer.sendOSC (slots.crossfadeModeAB, "AB".equals (crossfadeMode), dump);
+
+        writer.sendOSC (slots.recordQuantization, track.getRecordQuantizationGrid ().getValue (), dump);
+
+        writer.sendOSC (slots.vu, this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+    }
+
+
+    private TrackSlots getTrackSlots (final int index)
+    {
+        while (this.trackSlots.size () <= index)
+            this.trackSlots.add (new TrackSlots (this.writer, "/track/" + (this.trackSlots.size () + 1) + "/"));
+        return this.trackSlots.get (index);
+    }
+
+
+    private ParameterSlots getParameterSlots (final int index)
+    {
+        while (this.parameterSlots.size () <= index)
+            this.parameterSlots.add (new ParameterSlots (this.writer, "/track/param/" + (this.parameterSlots.size () + 1) + "/", false));
+        return this.parameterSlots.get (index);
+    }
 
-        writer.sendOSC (trackAddress + "recordQuantization", track.getRecordQuantizationGrid ().getValue (), dump);
 
-        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+    private PageSlots getPageSlots (final int index)
+    {
+        while (this.pageSlots.size () <= index)
+            this.pageSlots.add (new PageSlots (this.writer, "/track/page/" + (this.pageSlots.size () + 1) + "/"));
+        return this.pageSlots.get (index);
     }
 
 
@@ -682,4 +744,86 @@ public class TrackModule extends AbstractModule
                 throw new UnknownCommandException (command);
         }
     }
+
+
+    /**
+     * The registered OSC address slots of a track.
+     */
+    private static class TrackSlots extends ChannelSlots
+    {
+        final int                     type;
+        final int                     isGroup;
+        final int                     recarm;
+        final int                     monitor;
+        final int                     autoMonitor;
+        final int                     canHoldNotes;
+        final int                     canHoldAudioData;
+        final int                     position;
+        final int                     pinned;
+        final int                     crossfadeModeA;
+        final int                     crossfadeModeB;
+        final int                     crossfadeModeAB;
+        final int                     recordQuantization;
+
+        private final List<ClipSlots> clips = new ArrayList<> ();
+
+
+        TrackSlots (final IOpenSoundControlWriter writer, final String trackAddress)
+        {
+            super (writer, trackAddress);
+
+            this.type = writer.registerAddress (trackAddress + "type", OpenSoundControlValueType.STRING);
+            this.isGroup = writer.registerAddress (trackAddress + "isGroup", OpenSoundControlValueType.BOOLEAN);
+            this.recarm = writer.registerAddress (trackAddress + "recarm", OpenSoundControlValueType.BOOLEAN);
+            this.monitor = writer.registerAddress (trackAddress + "monitor", OpenSoundControlValueType.BOOLEAN);
+            this.autoMonitor = writer.registerAddress (trackAddress + "autoMonitor", OpenSoundControlValueType.BOOLEAN);
+            this.canHoldNotes = writer.registerAddress (trackAddress + "canHoldNotes", OpenSoundControlValueType.BOOLEAN);
+            this.canHoldAudioData = writer.registerAddress (trackAddress + "canHoldAudioData", OpenSoundControlValueType.BOOLEAN);
+            this.position = writer.registerAddress (trackAddress + "position", OpenSoundControlValueType.INT);
+            this.pinned = writer.registerAddress (trackAddress + "pinned", OpenSoundControlValueType.BOOLEAN);
+            this.crossfadeModeA = writer.registerAddress (trackAddress + "crossfadeMode/A", OpenSoundControlValueType.BOOLEAN);
+            this.crossfadeModeB = writer.registerAddress (trackAddress + "crossfadeMode/B", OpenSoundControlValueType.BOOLEAN);
+            this.crossfadeModeAB = writer.registerAddress (trackAddress + "crossfadeMode/AB", OpenSoundControlValueType.BOOLEAN);
+            this.recordQuantization = writer.registerAddress (trackAddress + "recordQuantization", OpenSoundControlValueType.STRING);
+        }
+
+
+        ClipSlots getClip (final int index)
+        {
+            while (this.clips.size () <= index)
+                this.clips.add (new ClipSlots (this.writer, this.address + "clip/" + (this.clips.size () + 1) + "/"));
+            return this.clips.get (index);
+        }
+    }
+
+
+    /**
+     * The registered OSC address slots of a clip.
+     */
+    private static class ClipSlots
+    {
+        final int name;
+        final int isSelected;
+        final int hasContent;
+        final int isPlaying;
+        final int isRecording;
+        final int isPlayingQueued;
+        final int isRecordingQueued;
+        final int isStopQueued;
+        final int color;
+
+
+        ClipSlots (final IOpenSoundControlWriter writer, final String clipAddress)
+        {
+            this.name = writer.registerAddress (clipAddress + TAG_NAME, OpenSoundControlValueType.STRING);
+            this.isSelected = writer.registerAddress (clipAddress + "isSelected", OpenSoundControlValueType.BOOLEAN);
+            this.hasContent = writer.registerAddress (clipAddress + "hasContent", OpenSoundControlValueType.BOOLEAN);
+            this.isPlaying = writer.registerAddress (clipAddress + "isPlaying", OpenSoundControlValueType.BOOLEAN);
+            this.isRecording = writer.registerAddress (clipAddress + "isRecording", OpenSoundControlValueType.BOOLEAN);
+            this.isPlayingQueued = writer.registerAddress (clipAddress + "isPlayingQueued", OpenSoundControlValueType.BOOLEAN);
+            this.isRecordingQueued = writer.registerAddress (clipAddress + "isRecordingQueued", OpenSoundControlValueType.BOOLEAN);
+            this.isStopQueued = writer.registerAddress (clipAddress + "isStopQueued", OpenSoundControlValueType.BOOLEAN);
+            this.color = writer.registerAddress (clipAddress + TAG_COLOR, OpenSoundControlValueType.COLOR);
+        }
+    }
 }
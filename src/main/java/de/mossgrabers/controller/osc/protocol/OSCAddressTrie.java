@@ -0,0 +1,276 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+
+import java.util.Arrays;
+
+
+/**
+ * A tree of registered OSC address patterns for dispatching incoming messages directly to a
+ * handler. The address is matched segment by segment without splitting it into strings. A segment
+ * of a pattern can be a number placeholder ('#') which matches a positive integer; the numbers are
+ * handed to the handler as they appear in the address (they are 1-based as in the OSC protocol).
+ * Literal segments take precedence over a number placeholder on the same level.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OSCAddressTrie
+{
+    /** The placeholder for a numeric segment in a pattern. */
+    public static final String NUMBER_PLACEHOLDER = "#";
+
+    private static final int   MAX_NUMBERS        = 4;
+
+    private final Node         root               = new Node ();
+    private final int []       numbers            = new int [MAX_NUMBERS];
+
+
+    /**
+     * Handles a matched address without number placeholders.
+     */
+    @FunctionalInterface
+    public interface IHandler
+    {
+        /**
+         * Handle the message.
+         *
+         * @param value The value of the message, may be null
+         * @throws IllegalParameterException Wrong or missing value parameter
+         * @throws UnknownCommandException Unknown command
+         * @throws MissingCommandException Missing sub-command
+         */
+        void handle (Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
+    }
+
+
+    /**
+     * Handles a matched address with one number placeholder.
+     */
+    @FunctionalInterface
+    public interface INumberHandler
+    {
+        /**
+         * Handle the message.
+         *
+         * @param number The number which matched the placeholder
+         * @param value The value of the message, may be null
+         * @throws IllegalParameterException Wrong or missing value parameter
+         * @throws UnknownCommandException Unknown command
+         * @throws MissingCommandException Missing sub-command
+         */
+        void handle (int number, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
+    }
+
+
+    /**
+     * Handles a matched address with two number placeholders.
+     */
+    @FunctionalInterface
+    public interface ITwoNumbersHandler
+    {
+        /**
+         * Handle the message.
+         *
+         * @param number1 The number which matched the first placeholder
+         * @param number2 The number which matched the second placeholder
+         * @param value The value of the message, may be null
+         * @throws IllegalParameterException Wrong or missing value parameter
+         * @throws UnknownCommandException Unknown command
+         * @throws MissingCommandException Missing sub-command
+         */
+        void handle (int number1, int number2, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
+    }
+
+
+    @FunctionalInterface
+    private interface IDispatcher
+    {
+        void dispatch (int [] numbers, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
+    }
+
+
+    /**
+     * Register a pattern without number placeholders, e.g. "/master/volume".
+     *
+     * @param pattern The address pattern
+     * @param handler The handler to call for a matching address
+     */
+    public void register (final String pattern, final IHandler handler)
+    {
+        this.register (pattern, 0, (numbers, value) -> handler.handle (value));
+    }
+
+
+    /**
+     * Register a pattern with one number placeholder, e.g. "/track/#/volume".
+     *
+     * @param pattern The address pattern
+     * @param handler The handler to call for a matching address
+     */
+    public void register (final String pattern, final INumberHandler handler)
+    {
+        this.register (pattern, 1, (numbers, value) -> handler.handle (numbers[0], value));
+    }
+
+
+    /**
+     * Register a pattern with two number placeholders, e.g. "/track/#/send/#/volume".
+     *
+     * @param pattern The address pattern
+     * @param handler The handler to call for a matching address
+     */
+    public void register (final String pattern, final ITwoNumbersHandler handler)
+    {
+        this.register (pattern, 2, (numbers, value) -> handler.handle (numbers[0], numbers[1], value));
+    }
+
+
+    /**
+     * Dispatch a message to the handler of a matching pattern.
+     *
+     * @param address The address of the message
+     * @param value The value of the message, may be null
+     * @return True if a matching pattern was found and the handler was called
+     * @throws IllegalParameterException Wrong or missing value parameter
+     * @throws UnknownCommandException Unknown command
+     * @throws MissingCommandException Missing sub-command
+     */
+    public boolean dispatch (final String address, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    {
+        final int length = address.length ();
+        if (length == 0 || address.charAt (0) != '/')
+            return false;
+
+        Node node = this.root;
+        int count = 0;
+        int start = 1;
+        while (start <= length)
+        {
+            int end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+
+            Node next = node.getChild (address, start, end);
+            if (next == null && node.numberChild != null && count < MAX_NUMBERS)
+            {
+                final int number = parseNumber (address, start, end);
+                if (number >= 0)
+                {
+                    this.numbers[count++] = number;
+                    next = node.numberChild;
+                }
+            }
+            if (next == null)
+                return false;
+
+            node = next;
+            start = end + 1;
+        }
+
+        if (node.dispatcher == null)
+            return false;
+        node.dispatcher.dispatch (this.numbers, value);
+        return true;
+    }
+
+
+    private void register (final String pattern, final int numberCount, final IDispatcher dispatcher)
+    {
+        if (pattern.isEmpty () || pattern.charAt (0) != '/')
+            throw new IllegalArgumentException ("OSC address pattern must start with '/': " + pattern);
+
+        int placeholders = 0;
+        Node node = this.root;
+        for (final String segment: pattern.substring (1).split ("/"))
+        {
+            if (NUMBER_PLACEHOLDER.equals (segment))
+            {
+                placeholders++;
+                if (node.numberChild == null)
+                    node.numberChild = new Node ();
+                node = node.numberChild;
+            }
+            else
+                node = node.getOrAddChild (segment);
+        }
+
+        if (placeholders != numberCount)
+            throw new IllegalArgumentException ("OSC address pattern " + pattern + " must contain " + numberCount + " number placeholder(s).");
+        if (node.dispatcher != null)
+            throw new IllegalArgumentException ("OSC address pattern is already registered: " + pattern);
+        node.dispatcher = dispatcher;
+    }
+
+
+    /**
+     * Parse a positive integer from a part of a text.
+     *
+     * @param text The text
+     * @param start The index of the first character
+     * @param end The index after the last character
+     * @return The number or -1 if the text part is empty, is not a number or is too large
+     */
+    private static int parseNumber (final String text, final int start, final int end)
+    {
+        if (start == end || end - start > 9)
+            return -1;
+        int number = 0;
+        for (int i = start; i < end; i++)
+        {
+            final char c = text.charAt (i);
+            if (c < '0' || c > '9')
+                return -1;
+            number = number * 10 + c - '0';
+        }
+        return number;
+    }
+
+
+    /**
+     * A node in the tree, represents one segment of an address.
+     */
+    private static class Node
+    {
+        private String []   segments = new String [0];
+        private Node []     children = new Node [0];
+        private Node        numberChild;
+        private IDispatcher dispatcher;
+
+
+        Node getChild (final String address, final int start, final int end)
+        {
+            final int length = end - start;
+            for (int i = 0; i < this.segments.length; i++)
+            {
+                final String segment = this.segments[i];
+                if (segment.length () == length && address.regionMatches (start, segment, 0, length))
+                    return this.children[i];
+            }
+            return null;
+        }
+
+
+        Node getOrAddChild (final String segment)
+        {
+            for (int i = 0; i < this.segments.length; i++)
+            {
+                if (this.segments[i].equals (segment))
+                    return this.children[i];
+            }
+
+            final Node child = new Node ();
+            final int size = this.segments.length;
+            this.segments = Arrays.copyOf (this.segments, size + 1);
+            this.children = Arrays.copyOf (this.children, size + 1);
+            this.segments[size] = segment;
+            this.children[size] = child;
+            return child;
+        }
+    }
+}
@@ -33,7 +33,8 @@ import java.util.Map;
 public class OSCParser extends AbstractOpenSoundControlParser
 {
     private final OSCControlSurface    surface;
-    private final Map<String, IModule> modules = new HashMap<> ();
+    private final Map<String, IModule> modules     = new HashMap<> ();
+    private final OSCAddressTrie       addressTrie = new OSCAddressTrie ();
 
 
     /**
@@ -64,27 +65,68 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
-        final LinkedList<String> oscParts = parseAddress (message);
-        if (oscParts.isEmpty ())
-            return;
-
-        final String command = oscParts.removeFirst ();
-        if ("refresh".equals (command))
-        {
-            this.writer.flush (true);
-            return;
-        }
-
         final Object [] values = message.getValues ();
+        final Object value;
+        if (values != null && values.length > 1)
+            value = values;
+        else
+            value = values == null || values.length == 0 ? null : values[0];
+
         try
         {
+            // Frequently used addresses are dispatched directly without parsing the address
+            if (this.addressTrie.dispatch (message.getAddress (), value))
+                return;
+
+            final LinkedList<String> oscParts = parseAddress (message);
+            if (oscParts.isEmpty ())
+                return;
+
+            final String command = oscParts.removeFirst ();
+            switch (command)
+            {
+                case "refresh":
+                    this.writer.flush (true);
+                    return;
+
+                case "snapshot":
+                    this.writer.sendSnapshot ();
+                    return;
+
+                case "resync":
+                    if (value instanceof final Number number)
+                        this.writer.sendChangesSince (number.intValue ());
+                    else
+                        throw new IllegalParameterException ("Sequence number missing");
+                    return;
+
+                case "subscribe":
+                    for (final String pattern: getPatterns (value))
+                        this.writer.subscribe (pattern);
+                    // Send the current state of the new subscriptions
+                    this.writer.flush (true);
+                    return;
+
+                case "unsubscribe":
+                    if (value == null)
+                        this.writer.unsubscribeAll ();
+                    else
+                        for (final String pattern: getPatterns (value))
+                            this.writer.unsubscribe (pattern);
+                    // Filtered values did not update the caches. If the filter became wider (e.g.
+                    // no subscriptions left), the client needs the current state of the addresses
+                    this.writer.flush (true);
+                    return;
+
+                default:
+                    // Handled by the modules
+                    break;
+            }
+
             final IModule module = this.modules.get (command);
             if (module == null)
                 throw new UnknownCommandException (command);
-            if (values != null && values.length > 1)
-                module.execute (command, oscParts, values);
-            else
-                module.execute (command, oscParts, values == null || values.length == 0 ? null : values[0]);
+            module.execute (command, oscParts, value);
         }
         catch (final IllegalParameterException ex)
         {
@@ -118,6 +160,31 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
+    /**
+     * Get the address patterns of a subscribe or unsubscribe command.
+     *
+     * @param value The value of the command, a single pattern or an array of patterns
+     * @return The patterns
+     * @throws IllegalParameterException If no pattern is given
+     */
+    private static String [] getPatterns (final Object value) throws IllegalParameterException
+    {
+        if (value == null)
+            throw new IllegalParameterException ("Address pattern missing");
+        if (value instanceof final Object [] values)
+        {
+            final String [] patterns = new String [values.length];
+            for (int i = 0; i < values.length; i++)
+                patterns[i] = String.valueOf (values[i]);
+            return patterns;
+        }
+        return new String []
+        {
+            value.toString ()
+        };
+    }
+
+
     /**
      * Register a command module.
      *
@@ -126,5 +193,6 @@ public class OSCParser extends AbstractOpenSoundControlParser
     public void registerModule (final IModule module)
     {
         Arrays.asList (module.getSupportedCommands ()).forEach (command -> this.modules.put (command, module));
+        module.registerAddresses (this.addressTrie);
     }
 }
\ No newline at end of file
@@ -116,6 +116,7 @@ public class OxiOneControllerSetup extends AbstractControllerSetup<OxiOneControl
             96,
             16
         });
+        ms.setWantsVuMeters (true);
 
         this.model = this.factory.createModel (this.configuration, this.colorManager, this.valueChanger, this.scales, ms);
 
@@ -90,6 +90,8 @@ public class OxiOneLayerMode extends AbstractParameterMode<OxiOneControlSurface,
         this.setControls (ContinuousID.createSequentialList (ContinuousID.KNOB1, 4));
         this.setParameterProvider (new FourKnobProvider<> (surface, new SelectedLayerOrDrumPadParameterProvider (this.getDrumDevice ()), ButtonID.SHIFT));
         this.cursorDevice.addHasDrumPadsObserver (hasDrumPads -> this.switchBanks (this.cursorDevice.hasDrumPads () ? this.cursorDevice.getDrumPadBank () : this.cursorDevice.getLayerBank ()));
+
+        this.showsVuMeters = true;
     }
 
 
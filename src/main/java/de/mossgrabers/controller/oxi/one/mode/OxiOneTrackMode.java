@@ -67,6 +67,8 @@ public class OxiOneTrackMode extends TrackMode<OxiOneControlSurface, OxiOneConfi
 
         this.setControls (ContinuousID.createSequentialList (ContinuousID.KNOB1, 4));
         this.setParameterProvider (new FourKnobProvider<> (surface, new SelectedTrackParameterProvider (model), ButtonID.SHIFT));
+
+        this.showsVuMeters = true;
     }
 
 
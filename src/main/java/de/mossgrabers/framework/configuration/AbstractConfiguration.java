@@ -4,7 +4,6 @@
 
 package de.mossgrabers.framework.configuration;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -16,6 +15,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.valuechanger.AccelerationCurve;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -150,6 +150,8 @@ public abstract class AbstractConfiguration implements Configuration
     public static final Integer      COLOR_TRACK_STATES              = Integer.valueOf (51);
     /** The speed of the encoder knob can be slowed down. */
     public static final Integer      ENCODER_KNOB_SLOW_DOWN          = Integer.valueOf (52);
+    /** The acceleration of relative encoders. */
+    public static final Integer      ENCODER_ACCELERATION            = Integer.valueOf (53);
 
     // Implementation IDs start at 100
     protected static final int       NEXT_SETTING_ID                 = 100;
@@ -441,6 +443,7 @@ public abstract class AbstractConfiguration implements Configuration
     private int                                       knobSpeedDefault                    = 0;
     private int                                       knobSpeedSlow                       = -40;
     private int                                       encoderKnobSlowDown                 = 0;
+    private AccelerationCurve                         encoderAcceleration                 = AccelerationCurve.OFF;
 
     private boolean                                   noteRepeatActive                    = false;
     private Resolution                                noteRepeatPeriod                    = Resolution.RES_1_8;
@@ -864,6 +867,14 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public AccelerationCurve getEncoderAcceleration ()
+    {
+        return this.encoderAcceleration;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean isNoteRepeatActive ()
@@ -982,8 +993,7 @@ public abstract class AbstractConfiguration implements Configuration
         String [] customNames = new String [0];
         try
         {
-            final CustomScaleLibrary library = new CustomScaleLibrary (CustomScaleLibrary.getDefaultFile ());
-            final List<CustomScale> customScales = library.loadAll ();
+            final List<CustomScale> customScales = CustomScaleLibrary.getInstance ().getScales ();
             if (!customScales.isEmpty ())
             {
                 customNames = new String [customScales.size ()];
@@ -1119,8 +1129,8 @@ public abstract class AbstractConfiguration implements Configuration
 
         try
         {
-            final CustomScaleLibrary library = new CustomScaleLibrary (CustomScaleLibrary.getDefaultFile ());
-            final List<CustomScale> existing = library.loadAll ();
+            final CustomScaleLibrary library = CustomScaleLibrary.getInstance ();
+            final List<CustomScale> existing = library.getScales ();
 
             final String error = library.getLastError ();
             if (error != null && !error.isEmpty ())
@@ -1595,6 +1605,13 @@ public abstract class AbstractConfiguration implements Configuration
             });
             this.isSettingActive.add (KNOB_SENSITIVITY_SLOW);
         }
+
+        final IEnumSetting encoderAccelerationSetting = settingsUI.getEnumSetting ("Knob Acceleration", CATEGORY_WORKFLOW, AccelerationCurve.getNames (), AccelerationCurve.OFF.getName ());
+        encoderAccelerationSetting.addValueObserver (value -> {
+            this.encoderAcceleration = AccelerationCurve.getByName (value);
+            this.notifyObservers (ENCODER_ACCELERATION);
+        });
+        this.isSettingActive.add (ENCODER_ACCELERATION);
     }
 
 
@@ -1844,16 +1861,10 @@ public abstract class AbstractConfiguration implements Configuration
             return;
         }
 
-        try
-        {
-            final CustomScaleLibrary library = new CustomScaleLibrary (CustomScaleLibrary.getDefaultFile ());
-            library.saveAll (result);
-        }
-        catch (final IOException ex)
-        {
-            this.host.error ("Error while saving custom scales.", ex);
-            this.host.showNotification ("Custom Scales: " + ex.getMessage ());
-        }
+        // Only modified settings trigger a (delayed, background) save
+        final CustomScaleLibrary library = CustomScaleLibrary.getInstance ();
+        if (!result.equals (library.getScales ()))
+            library.save (result);
     }
 
 
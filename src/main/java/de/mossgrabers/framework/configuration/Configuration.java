@@ -8,6 +8,7 @@ import java.util.List;
 
 import de.mossgrabers.framework.configuration.AbstractConfiguration.RecordFunction;
 import de.mossgrabers.framework.configuration.AbstractConfiguration.TransportBehavior;
+import de.mossgrabers.framework.controller.valuechanger.AccelerationCurve;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
 import de.mossgrabers.framework.mode.Modes;
@@ -383,6 +384,14 @@ public interface Configuration
     int getEncoderKnobSlowDown ();
 
 
+    /**
+     * Get the curve for accelerating relative encoders depending on their speed.
+     *
+     * @return The curve
+     */
+    AccelerationCurve getEncoderAcceleration ();
+
+
     /**
      * Get all supported Arpeggiator modes.
      *
@@ -47,6 +47,7 @@ import de.mossgrabers.framework.featuregroup.IView;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.observer.ObserverManager;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.view.Views;
 
@@ -65,6 +66,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     protected static final int                            BUTTON_STATE_INTERVAL          = 500;
     protected static final int                            NUM_NOTES                      = 128;
     protected static final int                            NUM_INFOS                      = 256;
+    /** The time budget of one flush in milliseconds, low priority tasks are deferred if exceeded. */
+    private static final double                           FLUSH_FRAME_BUDGET             = 8;
 
     protected final IHost                                 host;
     protected final IHwSurfaceFactory                     surfaceFactory;
@@ -97,6 +100,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     private final Object                                  updateCounterLock              = new Object ();
     private int                                           updateCounter                  = 0;
+    private boolean                                       isDeferredFlushOnly            = false;
+    private final FlushScheduler                          flushScheduler                 = new FlushScheduler (FLUSH_FRAME_BUDGET);
 
     private boolean                                       knobSensitivityIsSlow          = false;
     private final List<ISensitivityCallback>              knobSensitivityObservers       = new ArrayList<> ();
@@ -167,8 +172,18 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
         this.surfaceFactory = host.createSurfaceFactory (width, height);
 
+        final ObserverManager observerManager = host.getObserverManager ();
+        this.modeManager.setObserverManager (observerManager);
+        this.viewManager.setObserverManager (observerManager);
+
         this.dummyDisplay = new DummyDisplay (host);
 
+        // Button LEDs and pads give the feedback for the user input, they are never deferred
+        this.flushScheduler.addTask ("Controls", 2, true, this::updateViewControls);
+        this.flushScheduler.addTask ("Grid", 3, true, this::updateGrid);
+        this.flushScheduler.addTask ("Displays", 2, false, this::flushTextDisplays);
+        this.flushScheduler.addTask ("Hardware", 2, true, this::flushHardware);
+
         this.output = output;
         this.input = input;
         if (this.input != null)
@@ -740,6 +755,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         synchronized (this.updateCounterLock)
         {
             this.updateCounter++;
+            this.isDeferredFlushOnly = false;
             this.scheduleTask (this::flushHandler, 1);
         }
     }
@@ -780,15 +796,20 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     protected void flushHandler ()
     {
+        final boolean onlyDeferred;
         synchronized (this.updateCounterLock)
         {
             if (this.updateCounter == 0)
                 return;
+            onlyDeferred = this.isDeferredFlushOnly;
         }
 
         try
         {
-            this.internalFlushHandler ();
+            if (onlyDeferred)
+                this.flushScheduler.executeDeferred ();
+            else
+                this.internalFlushHandler ();
         }
         catch (final RuntimeException ex)
         {
@@ -797,22 +818,37 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
         synchronized (this.updateCounterLock)
         {
-            if (this.updateCounter > 1)
+            // A new flush was requested in the meantime, execute all tasks again. Otherwise only the
+            // deferred tasks are executed with the next frame
+            if (this.updateCounter > 1 || this.flushScheduler.hasDeferredTasks ())
             {
+                this.isDeferredFlushOnly = this.updateCounter == 1;
                 this.updateCounter = 1;
                 this.scheduleTask (this::flushHandler, 1);
             }
             else
+            {
+                this.isDeferredFlushOnly = false;
                 this.updateCounter = 0;
+            }
         }
     }
 
 
     protected void internalFlushHandler ()
     {
-        this.updateViewControls ();
-        this.updateGrid ();
-        this.flushHardware ();
+        this.flushScheduler.execute ();
+    }
+
+
+    /**
+     * Get the scheduler which executes the tasks of a flush.
+     *
+     * @return The scheduler
+     */
+    public FlushScheduler getFlushScheduler ()
+    {
+        return this.flushScheduler;
     }
 
 
@@ -831,6 +867,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.isShuttingDown = true;
         this.internalShutdown ();
         this.flushHardware ();
+
+        if (this.flushScheduler.hasExceededBudgets ())
+            this.host.println (this.flushScheduler.formatReport ());
     }
 
 
@@ -1136,11 +1175,22 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
 
     /**
-     * Flush all changes to the hardware.
+     * Flush all text displays.
      */
-    protected void flushHardware ()
+    protected void flushTextDisplays ()
     {
         this.textDisplays.forEach (ITextDisplay::flush);
+    }
+
+
+    /**
+     * Flush all changes to the hardware. During normal operation the text displays are flushed by
+     * their own task of the flush scheduler, which might defer them.
+     */
+    protected void flushHardware ()
+    {
+        if (this.isShuttingDown)
+            this.flushTextDisplays ();
         this.surfaceFactory.flush ();
         this.continuous.values ().forEach (IHwContinuousControl::update);
     }
@@ -7,6 +7,7 @@ package de.mossgrabers.framework.controller;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.function.IntSupplier;
 
 import de.mossgrabers.framework.command.core.ContinuousCommand;
@@ -41,6 +42,7 @@ import de.mossgrabers.framework.scale.CustomScaleLibrary;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.ConsoleLogger;
+import de.mossgrabers.framework.utils.StartupProfiler;
 import de.mossgrabers.framework.utils.TestCallback;
 import de.mossgrabers.framework.utils.TestFramework;
 import de.mossgrabers.framework.view.AbstractDrum64View;
@@ -70,6 +72,8 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     protected IValueChanger       valueChanger;
     protected Modes               currentMode = null;
 
+    private final List<Consumer<List<CustomScale>>> customScalesListeners = new ArrayList<> ();
+
 
     /**
      * Constructor.
@@ -142,20 +146,31 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     @Override
     public void init ()
     {
-        this.initConfiguration ();
-        this.createScales ();
-        this.createModel ();
-        this.createSurface ();
-        this.createModes ();
-        this.createObservers ();
-        this.createViews ();
-        this.registerTriggerCommands ();
-        this.registerContinuousCommands ();
-        this.layoutControls ();
-        if (this.model != null)
-            this.model.ensureClip ();
+        final StartupProfiler profiler = new StartupProfiler (this.getClass ().getSimpleName ());
+        profiler.measure ("Configuration", this::initConfiguration);
+        profiler.measure ("Scales", () -> {
+            this.createScales ();
+            this.connectCustomScales (this.scales);
+        });
+        profiler.measure ("Model", this::createModel);
+        profiler.measure ("Surface", this::createSurface);
+        profiler.measure ("Modes", this::createModes);
+        profiler.measure ("Observers", this::createObservers);
+        profiler.measure ("Views", this::createViews);
+        profiler.measure ("Trigger commands", this::registerTriggerCommands);
+        profiler.measure ("Continuous commands", this::registerContinuousCommands);
+        profiler.measure ("Layout", this::layoutControls);
+        profiler.measure ("Notify settings", () -> {
+            if (this.model != null)
+                this.model.ensureClip ();
+            this.configuration.notifyAllObservers ();
+        });
 
-        this.configuration.notifyAllObservers ();
+        if (StartupProfiler.isEnabled ())
+        {
+            this.host.println (profiler.formatReport ());
+            this.host.println ("Startup profile: " + profiler.formatJson ());
+        }
     }
 
 
@@ -166,6 +181,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.configuration.clearSettingObservers ();
         for (final S surface: this.surfaces)
             surface.shutdown ();
+        this.disconnectCustomScales ();
         this.host.releaseUsbDevices ();
         if (this.model != null)
             this.model.cleanup ();
@@ -179,6 +195,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     {
         try
         {
+            this.valueChanger.getEncoderAccumulator ().flush ();
             for (final S surface: this.surfaces)
                 surface.flush ();
         }
@@ -189,6 +206,43 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     }
 
 
+    /**
+     * Keep the custom scales of a scales object up to date, e.g. if the file is edited outside of
+     * the extension or by another controller. The changes are applied on the control thread.
+     *
+     * @param scalesObject The scales object, nothing happens if null
+     */
+    protected void connectCustomScales (final Scales scalesObject)
+    {
+        if (scalesObject == null)
+            return;
+
+        final CustomScaleLibrary library = CustomScaleLibrary.getInstance ();
+        final Consumer<List<CustomScale>> listener = customScales -> this.host.scheduleTask ( () -> scalesObject.setCustomScales (customScales), 0);
+        library.addListener (listener);
+        this.customScalesListeners.add (listener);
+        scalesObject.setCustomScales (library.getScales ());
+    }
+
+
+    /**
+     * Remove all custom scales listeners of this setup. The library is closed if no other
+     * controller uses it anymore, otherwise only a pending save is written.
+     */
+    private void disconnectCustomScales ()
+    {
+        final CustomScaleLibrary library = CustomScaleLibrary.getInstance ();
+        for (final Consumer<List<CustomScale>> listener: this.customScalesListeners)
+            library.removeListener (listener);
+        this.customScalesListeners.clear ();
+
+        if (library.hasListeners ())
+            library.flushPendingSave ();
+        else
+            library.close ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void test (final TestCallback callback)
@@ -332,11 +386,6 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     protected void createScales ()
     {
         this.scales = new Scales (this.valueChanger, 36, 100, 8, 8);
-
-        final CustomScaleLibrary library = new CustomScaleLibrary (CustomScaleLibrary.getDefaultFile ());
-        final List<CustomScale> customScales = library.loadAll ();
-        if (!customScales.isEmpty ())
-            this.scales.setCustomScales (customScales);
     }
 
 
@@ -382,6 +431,9 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
 
             this.surfaces.forEach (surface -> surface.addKnobSensitivityObserver (this::updateRelativeKnobSensitivity));
         }
+
+        if (this.configuration.canSettingBeObserved (AbstractConfiguration.ENCODER_ACCELERATION))
+            this.configuration.addSettingObserver (AbstractConfiguration.ENCODER_ACCELERATION, () -> this.valueChanger.getEncoderAccumulator ().setAccelerationCurve (this.configuration.getEncoderAcceleration ()));
     }
 
 
@@ -1372,9 +1424,16 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
      */
     protected void updateRelativeKnobSensitivity ()
     {
+        boolean isAnySlow = false;
+        for (final S surface: this.surfaces)
+            isAnySlow |= surface.isKnobSensitivitySlow ();
+        // The accumulator is shared by all surfaces, fine adjustments must never be accelerated
+        this.valueChanger.getEncoderAccumulator ().setFine (isAnySlow);
+
         this.surfaces.forEach (surface -> {
 
-            final int knobSensitivity = surface.isKnobSensitivitySlow () ? this.configuration.getKnobSensitivitySlow () : this.configuration.getKnobSensitivityDefault ();
+            final boolean isSlow = surface.isKnobSensitivitySlow ();
+            final int knobSensitivity = isSlow ? this.configuration.getKnobSensitivitySlow () : this.configuration.getKnobSensitivityDefault ();
             this.valueChanger.setSensitivity (knobSensitivity);
             surface.getRelativeKnobs ().forEach (knob -> {
                 if (knob.shouldAdaptSensitivity ())
@@ -0,0 +1,204 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * Executes the tasks of a flush in the order of their priority. Each task has a time budget per
+ * frame and its recent cost is measured. A task which is not critical is deferred to the next frame
+ * if the tasks executed so far already used up the budget of the frame or if the task currently
+ * needs more than its own budget and would not fit into the rest of the frame. A task is never
+ * deferred more than a few frames in a row, so that low priority work (e.g. displays) is delayed
+ * but does not starve. Deferred tasks can be caught up with {@link #executeDeferred()} without
+ * executing the other tasks again.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class FlushScheduler
+{
+    /** The maximum number of frames in a row a task can be deferred. */
+    private static final int MAX_DEFERRED_FRAMES = 3;
+
+    private final List<Task> tasks               = new ArrayList<> ();
+    private final long       frameBudget;
+    private boolean          hasDeferredTasks    = false;
+
+
+    /**
+     * Constructor.
+     *
+     * @param frameBudgetMillis The time budget of all tasks of one frame in milliseconds
+     */
+    public FlushScheduler (final double frameBudgetMillis)
+    {
+        this.frameBudget = toNanos (frameBudgetMillis);
+    }
+
+
+    /**
+     * Add a task. Tasks are executed in the order in which they were added, therefore add the most
+     * important ones first.
+     *
+     * @param name The name of the task, used for reporting
+     * @param budgetMillis The time budget of the task per frame in milliseconds
+     * @param isCritical If true the task is never deferred
+     * @param runnable The code to execute
+     */
+    public void addTask (final String name, final double budgetMillis, final boolean isCritical, final Runnable runnable)
+    {
+        this.tasks.add (new Task (name, toNanos (budgetMillis), isCritical, runnable));
+    }
+
+
+    /**
+     * Execute all tasks of one frame.
+     */
+    public void execute ()
+    {
+        this.execute (false);
+    }
+
+
+    /**
+     * Execute only the tasks which were deferred in the last frame.
+     */
+    public void executeDeferred ()
+    {
+        this.execute (true);
+    }
+
+
+    private void execute (final boolean onlyDeferred)
+    {
+        final long frameStart = System.nanoTime ();
+        this.hasDeferredTasks = false;
+
+        for (final Task task: this.tasks)
+        {
+            if (onlyDeferred && task.deferredFrames == 0)
+                continue;
+
+            final long start = System.nanoTime ();
+            if (this.isDeferred (task, start - frameStart))
+            {
+                task.deferredFrames++;
+                task.deferrals++;
+                this.hasDeferredTasks = true;
+                continue;
+            }
+
+            task.runnable.run ();
+
+            final long duration = System.nanoTime () - start;
+            task.deferredFrames = 0;
+            task.executions++;
+            task.totalTime += duration;
+            task.maxTime = Math.max (task.maxTime, duration);
+            // Moving average which follows changes of the cost quickly
+            task.recentTime = task.recentTime == 0 ? duration : task.recentTime + (duration - task.recentTime) / 4;
+            if (duration > task.budget)
+                task.overruns++;
+        }
+    }
+
+
+    /**
+     * Check if a task needs to be deferred to the next frame.
+     *
+     * @param task The task
+     * @param elapsed The time already used in the current frame
+     * @return True if it should be deferred
+     */
+    private boolean isDeferred (final Task task, final long elapsed)
+    {
+        if (task.isCritical || task.deferredFrames >= MAX_DEFERRED_FRAMES)
+            return false;
+        if (elapsed > this.frameBudget)
+            return true;
+        // A task which stays in its budget is covered by the frame budget, one which needs more
+        // must fit into the rest of the frame
+        return task.recentTime > task.budget && elapsed + task.recentTime > this.frameBudget;
+    }
+
+
+    /**
+     * Check if tasks were deferred in the last frame. If true, another frame needs to be executed.
+     *
+     * @return True if there are deferred tasks
+     */
+    public boolean hasDeferredTasks ()
+    {
+        return this.hasDeferredTasks;
+    }
+
+
+    /**
+     * Check if any task exceeded its budget or was deferred.
+     *
+     * @return True if the budgets were exceeded
+     */
+    public boolean hasExceededBudgets ()
+    {
+        for (final Task task: this.tasks)
+        {
+            if (task.overruns > 0 || task.deferrals > 0)
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Format a report with the statistics of all tasks.
+     *
+     * @return The report
+     */
+    public String formatReport ()
+    {
+        final StringBuilder sb = new StringBuilder ("Flush tasks:");
+        for (final Task task: this.tasks)
+        {
+            final double average = task.executions == 0 ? 0 : task.totalTime / (double) task.executions;
+            sb.append (String.format (Locale.US, "%n  %s: budget %.1f ms, average %.2f ms, max %.2f ms, executed %d, over budget %d, deferred %d", task.name, Double.valueOf (task.budget / 1000000.0), Double.valueOf (average / 1000000.0), Double.valueOf (task.maxTime / 1000000.0), Long.valueOf (task.executions), Long.valueOf (task.overruns), Long.valueOf (task.deferrals)));
+        }
+        return sb.toString ();
+    }
+
+
+    private static long toNanos (final double millis)
+    {
+        return (long) (millis * 1000000.0);
+    }
+
+
+    private static class Task
+    {
+        private final String   name;
+        private final long     budget;
+        private final boolean  isCritical;
+        private final Runnable runnable;
+
+        private int            deferredFrames;
+        private long           executions;
+        private long           deferrals;
+        private long           overruns;
+        private long           totalTime;
+        private long           maxTime;
+        private long           recentTime;
+
+
+        Task (final String name, final long budget, final boolean isCritical, final Runnable runnable)
+        {
+            this.name = name;
+            this.budget = budget;
+            this.isCritical = isCritical;
+            this.runnable = runnable;
+        }
+    }
+}
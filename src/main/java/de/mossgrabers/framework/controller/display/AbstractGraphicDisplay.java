@@ -7,9 +7,6 @@ package de.mossgrabers.framework.controller.display;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -44,6 +41,7 @@ import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
 import de.mossgrabers.framework.graphics.display.ModelInfo;
 import de.mossgrabers.framework.utils.Pair;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 
 /**
@@ -76,7 +74,8 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     private static final int               TIMEOUT                         = 1;
 
     private final AtomicInteger            counter                         = new AtomicInteger ();
-    private final ScheduledExecutorService executor                        = Executors.newSingleThreadScheduledExecutor ();
+    private final TimerWheel.Timer         notificationTimer;
+    private volatile boolean               isShutdown                      = false;
     private final Object                   counterSync                     = new Object ();
 
     private final List<IComponent>         columns                         = new ArrayList<> (8);
@@ -112,7 +111,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
         this.image.setDisplayWindowTitle (windowTitle);
 
         // Manage notification message display time
-        this.executor.scheduleAtFixedRate (this::checkNotificationCounter, 1, 1, TimeUnit.SECONDS);
+        this.notificationTimer = TimerWheel.getInstance ().scheduleAtFixedRate (this::checkNotificationCounter, 1000, 1000);
     }
 
 
@@ -150,17 +149,8 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void shutdown ()
     {
-        this.executor.shutdown ();
-        try
-        {
-            if (!this.executor.awaitTermination (5, TimeUnit.SECONDS))
-                this.host.error ("Display send executor did not end in 5 seconds.");
-        }
-        catch (final InterruptedException ex)
-        {
-            this.host.error ("Display send executor interrupted.", ex);
-            Thread.currentThread ().interrupt ();
-        }
+        this.isShutdown = true;
+        this.notificationTimer.cancel ();
     }
 
 
@@ -168,7 +158,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void send ()
     {
-        if (this.executor.isShutdown ())
+        if (this.isShutdown)
             return;
 
         try
@@ -0,0 +1,105 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.valuechanger;
+
+/**
+ * Curves for accelerating the changes of relative encoders depending on how fast they are turned.
+ *
+ * @author Jürgen Moßgraber
+ */
+public enum AccelerationCurve
+{
+    /** No acceleration. */
+    OFF("Off"),
+    /** The factor grows linear with the speed. */
+    LINEAR("Linear"),
+    /** The factor grows exponential with the speed. */
+    EXPONENTIAL("Exponential");
+
+
+    /** Below this speed (ticks per second) there is no acceleration. */
+    private static final double    THRESHOLD  = 20.0;
+    /** Speed range (ticks per second) in which the factor grows by 1 (linear) or doubles. */
+    private static final double    RANGE      = 40.0;
+    /** The maximum acceleration factor. */
+    private static final double    MAX_FACTOR = 6.0;
+
+    private static final String [] curveNames;
+    static
+    {
+        final AccelerationCurve [] values = AccelerationCurve.values ();
+        curveNames = new String [values.length];
+        for (int i = 0; i < values.length; i++)
+            curveNames[i] = values[i].name;
+    }
+
+    private final String           name;
+
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the curve
+     */
+    AccelerationCurve (final String name)
+    {
+        this.name = name;
+    }
+
+
+    /**
+     * Get the name to display.
+     *
+     * @return The name
+     */
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /**
+     * Calculate the acceleration factor.
+     *
+     * @param ticksPerSecond The speed with which the encoder is turned
+     * @return The factor to multiply the change with, 1 if there is no acceleration
+     */
+    public double getFactor (final double ticksPerSecond)
+    {
+        if (this == OFF || ticksPerSecond <= THRESHOLD)
+            return 1;
+        final double speed = (ticksPerSecond - THRESHOLD) / RANGE;
+        final double factor = this == LINEAR ? 1 + speed : Math.pow (2, speed);
+        return Math.min (factor, MAX_FACTOR);
+    }
+
+
+    /**
+     * Get the names of all curves.
+     *
+     * @return The names
+     */
+    public static String [] getNames ()
+    {
+        return curveNames;
+    }
+
+
+    /**
+     * Get a curve by its name.
+     *
+     * @param name The name of the curve
+     * @return The curve, OFF if it does not exist
+     */
+    public static AccelerationCurve getByName (final String name)
+    {
+        for (final AccelerationCurve curve: AccelerationCurve.values ())
+        {
+            if (curve.getName ().equals (name))
+                return curve;
+        }
+        return OFF;
+    }
+}
@@ -0,0 +1,144 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.valuechanger;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import de.mossgrabers.framework.parameter.IParameter;
+
+
+/**
+ * Collects the changes of relative encoders per parameter and applies them combined once per
+ * flush. Turning an encoder fast sends many ticks per frame which would otherwise all be sent to
+ * the DAW one by one. The speed of each encoder is tracked from the time between its ticks and is
+ * used to accelerate the change.
+ *
+ * The changes are already decoded and scaled by the value changer, therefore acceleration works the
+ * same for all relative encodings. There is one instance per controller setup (owned by its value
+ * changer); all of its methods are called from the control thread and are therefore not
+ * synchronized.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class EncoderAccumulator
+{
+    /**
+     * The time constant of the speed measurement. A tick adds 1 / time constant to the speed which
+     * then decays exponentially. A steady turn results in its real speed but single ticks which
+     * arrive at the same time (e.g. in one USB packet) do not look like a fast turn.
+     */
+    private static final double                 SPEED_TIME_CONSTANT = 100_000_000.0;
+    /** The speed of a parameter is forgotten if it was not turned for this time. */
+    private static final long                   TURN_TIMEOUT        = 1_000_000_000L;
+
+    private final Map<IParameter, EncoderState> states              = new LinkedHashMap<> ();
+    private AccelerationCurve                   curve               = AccelerationCurve.OFF;
+    private boolean                             isFine              = false;
+
+
+    /**
+     * Set the acceleration curve.
+     *
+     * @param curve The curve
+     */
+    public void setAccelerationCurve (final AccelerationCurve curve)
+    {
+        this.curve = curve;
+    }
+
+
+    /**
+     * Enable or disable the fine mode. In fine mode the changes are never accelerated, e.g. while
+     * the knob sensitivity is slow.
+     *
+     * @param isFine True to enable the fine mode
+     */
+    public void setFine (final boolean isFine)
+    {
+        this.isFine = isFine;
+    }
+
+
+    /**
+     * Add a change of an encoder which is applied with the next flush.
+     *
+     * @param parameter The parameter to change
+     * @param increment The change calculated by the value changer
+     * @param ticks The number of encoder ticks of the change (the absolute decoded speed)
+     */
+    public void add (final IParameter parameter, final double increment, final int ticks)
+    {
+        final long now = System.nanoTime ();
+        final EncoderState state = this.states.computeIfAbsent (parameter, p -> new EncoderState ());
+
+        final long sinceLastTick = now - state.lastTick;
+        final double decay = state.ticksPerSecond == 0 || sinceLastTick > TURN_TIMEOUT ? 0 : Math.exp (-sinceLastTick / SPEED_TIME_CONSTANT);
+        state.ticksPerSecond = state.ticksPerSecond * decay + ticks * 1_000_000_000.0 / SPEED_TIME_CONSTANT;
+        state.lastTick = now;
+
+        state.increment += increment;
+        state.isPending = true;
+    }
+
+
+    /**
+     * Drop the changes of a parameter which were not applied yet, e.g. since the parameter was set
+     * to an absolute value.
+     *
+     * @param parameter The parameter
+     */
+    public void cancel (final IParameter parameter)
+    {
+        // Do not remove the state, this might be called while flushing
+        final EncoderState state = this.states.get (parameter);
+        if (state != null)
+        {
+            state.increment = 0;
+            state.isPending = false;
+        }
+    }
+
+
+    /**
+     * Apply all collected changes.
+     */
+    public void flush ()
+    {
+        if (this.states.isEmpty ())
+            return;
+
+        final long now = System.nanoTime ();
+        final Iterator<Map.Entry<IParameter, EncoderState>> iterator = this.states.entrySet ().iterator ();
+        while (iterator.hasNext ())
+        {
+            final Map.Entry<IParameter, EncoderState> entry = iterator.next ();
+            final EncoderState state = entry.getValue ();
+            if (!state.isPending)
+            {
+                // Keep only the speed of parameters which are currently turned
+                if (now - state.lastTick > TURN_TIMEOUT)
+                    iterator.remove ();
+                continue;
+            }
+
+            final double increment = state.increment;
+            state.increment = 0;
+            state.isPending = false;
+            entry.getKey ().inc (this.isFine ? increment : increment * this.curve.getFactor (state.ticksPerSecond));
+        }
+    }
+
+
+    /** The pending change and the speed of the encoder of a parameter. */
+    private static class EncoderState
+    {
+        private double  increment;
+        private boolean isPending;
+        private long    lastTick;
+        private double  ticksPerSecond;
+    }
+}
@@ -182,4 +182,13 @@ public interface IValueChanger
      * @return The MIDI value
      */
     int fromNormalizedValue (double value);
+
+
+    /**
+     * Get the accumulator which combines and accelerates the relative changes of the parameters
+     * which use this value changer.
+     *
+     * @return The accumulator
+     */
+    EncoderAccumulator getEncoderAccumulator ();
 }
@@ -16,9 +16,11 @@ package de.mossgrabers.framework.controller.valuechanger;
  */
 public class TwosComplementValueChanger implements IValueChanger
 {
-    private int    upperBound;
-    protected int  stepSize;
-    private double sensitivity = 1.0;
+    private final EncoderAccumulator encoderAccumulator = new EncoderAccumulator ();
+
+    private int                      upperBound;
+    protected int                    stepSize;
+    private double                   sensitivity        = 1.0;
 
 
     /**
@@ -58,6 +60,14 @@ public class TwosComplementValueChanger implements IValueChanger
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public EncoderAccumulator getEncoderAccumulator ()
+    {
+        return this.encoderAccumulator;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getUpperBound ()
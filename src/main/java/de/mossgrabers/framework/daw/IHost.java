@@ -11,6 +11,7 @@ import de.mossgrabers.framework.daw.constants.Capability;
 import de.mossgrabers.framework.daw.data.IDeviceMetadata;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.observer.ObserverManager;
 import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
@@ -215,4 +216,21 @@ public interface IHost
      * @return The metadata
      */
     List<IDeviceMetadata> getAudioEffectMetadata ();
+
+
+    /**
+     * Get the manager for the VU meters of all channels.
+     *
+     * @return The VU meter manager
+     */
+    VuMeterManager getVuMeterManager ();
+
+
+    /**
+     * Get the manager which enables the observers of model objects depending on the active
+     * consumers.
+     *
+     * @return The observer manager
+     */
+    ObserverManager getObserverManager ();
 }
\ No newline at end of file
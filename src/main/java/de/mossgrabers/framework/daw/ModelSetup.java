@@ -38,6 +38,7 @@ public class ModelSetup
     private int                  numListParams              = 0;
     private boolean              wantsCursorLayer           = false;
     private boolean              wantsFocusedParameter      = false;
+    private boolean              wantsVuMeters              = false;
 
     private int                  numFilterColumnEntries     = 16;
     private int                  numResults                 = 16;
@@ -512,6 +513,29 @@ public class ModelSetup
     }
 
 
+    /**
+     * Should the VU meters of the channels be observed?
+     *
+     * @return True if the VU meters are observed
+     */
+    public boolean wantsVuMeters ()
+    {
+        return this.wantsVuMeters;
+    }
+
+
+    /**
+     * Set if the VU meters of the channels should be observed. If not enabled, no VU meter updates
+     * are sent by the DAW at all.
+     *
+     * @param wantsVuMeters True to observe the VU meters
+     */
+    public void setWantsVuMeters (final boolean wantsVuMeters)
+    {
+        this.wantsVuMeters = wantsVuMeters;
+    }
+
+
     /**
      * Should a cursor layer be created?
      *
@@ -0,0 +1,93 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import de.mossgrabers.framework.daw.data.VuMeter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Manages the VU meters of all channels (tracks, layers and drum pads). The meters are only
+ * observed if the controller supports them at all (see ModelSetup). Then, they are only updated as
+ * long as at least one consumer (a mode, display or surface) has requested them. Requests are
+ * reference counted, therefore several surfaces can share the meters.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class VuMeterManager
+{
+    private final List<VuMeter> meters = new ArrayList<> ();
+    private boolean             isSupported;
+    private int                 referenceCount;
+
+
+    /**
+     * Check if the VU meters are observed. Must be set before the channels are created since the
+     * observers can only be registered during initialization.
+     *
+     * @return True if the VU meters are observed
+     */
+    public boolean isSupported ()
+    {
+        return this.isSupported;
+    }
+
+
+    /**
+     * Set if the VU meters are observed.
+     *
+     * @param isSupported True if the VU meters are observed
+     */
+    public void setSupported (final boolean isSupported)
+    {
+        this.isSupported = isSupported;
+    }
+
+
+    /**
+     * Register the VU meter of a channel.
+     *
+     * @param meter The meter to register
+     */
+    public void register (final VuMeter meter)
+    {
+        this.meters.add (meter);
+    }
+
+
+    /**
+     * Request the VU meters. Each call must be balanced with a call to release.
+     */
+    public void acquire ()
+    {
+        this.referenceCount++;
+    }
+
+
+    /**
+     * Release a VU meter request. If there are no more consumers, all meters are cleared.
+     */
+    public void release ()
+    {
+        if (this.referenceCount == 0)
+            return;
+        this.referenceCount--;
+        if (this.referenceCount == 0)
+            this.meters.forEach (VuMeter::clear);
+    }
+
+
+    /**
+     * Check if there is at least one consumer of the VU meters.
+     *
+     * @return True if VU meters need to be updated
+     */
+    public boolean isActive ()
+    {
+        return this.referenceCount > 0;
+    }
+}
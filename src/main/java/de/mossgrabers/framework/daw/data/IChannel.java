@@ -290,6 +290,14 @@ public interface IChannel extends IItem
     boolean isMutedBySolo ();
 
 
+    /**
+     * Get the VU meter of the channel. Use it to read the values in a specific resolution.
+     *
+     * @return The VU meter
+     */
+    VuMeter getVuMeter ();
+
+
     /**
      * Get the mono VU value.
      *
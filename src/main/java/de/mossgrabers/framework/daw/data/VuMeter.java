@@ -0,0 +1,165 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.data;
+
+/**
+ * The state of the stereo VU meter of a channel. The values are stored in the resolution in which
+ * they are received from the DAW. The peak is held until it is reset.
+ * Consumers read the values in the resolution they need.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class VuMeter
+{
+    /** The resolution in which the values are stored. */
+    public static final int MAX_RESOLUTION = 16384;
+    /** Values above this border are considered as clipping. */
+    public static final int CLIP_BORDER    = 16241;
+
+    private int             left;
+    private int             right;
+    private int             peakLeft;
+    private int             peakRight;
+
+
+    /**
+     * Set a new value for the left channel.
+     *
+     * @param value The value in the range of [0..MAX_RESOLUTION]
+     */
+    public void setLeft (final int value)
+    {
+        this.left = limit (value);
+        this.peakLeft = Math.max (this.peakLeft, this.left);
+    }
+
+
+    /**
+     * Set a new value for the right channel.
+     *
+     * @param value The value in the range of [0..MAX_RESOLUTION]
+     */
+    public void setRight (final int value)
+    {
+        this.right = limit (value);
+        this.peakRight = Math.max (this.peakRight, this.right);
+    }
+
+
+    /**
+     * Reset the peak values.
+     */
+    public void resetPeaks ()
+    {
+        this.peakLeft = 0;
+        this.peakRight = 0;
+    }
+
+
+    /**
+     * Reset all values to 0.
+     */
+    public void clear ()
+    {
+        this.left = 0;
+        this.right = 0;
+        this.resetPeaks ();
+    }
+
+
+    /**
+     * Get the mono value (average of left and right).
+     *
+     * @param resolution The resolution of the consumer, e.g. 128 for the range [0..127]
+     * @return The scaled value
+     */
+    public int get (final int resolution)
+    {
+        return (int) Math.round ((this.left + this.right) * resolution / (double) MAX_RESOLUTION / 2.0);
+    }
+
+
+    /**
+     * Get the left value.
+     *
+     * @param resolution The resolution of the consumer, e.g. 128 for the range [0..127]
+     * @return The scaled value
+     */
+    public int getLeft (final int resolution)
+    {
+        return scale (this.left, resolution);
+    }
+
+
+    /**
+     * Get the right value.
+     *
+     * @param resolution The resolution of the consumer, e.g. 128 for the range [0..127]
+     * @return The scaled value
+     */
+    public int getRight (final int resolution)
+    {
+        return scale (this.right, resolution);
+    }
+
+
+    /**
+     * Get the peak of the left value.
+     *
+     * @param resolution The resolution of the consumer, e.g. 128 for the range [0..127]
+     * @return The scaled value
+     */
+    public int getPeakLeft (final int resolution)
+    {
+        return scale (this.peakLeft, resolution);
+    }
+
+
+    /**
+     * Get the peak of the right value.
+     *
+     * @param resolution The resolution of the consumer, e.g. 128 for the range [0..127]
+     * @return The scaled value
+     */
+    public int getPeakRight (final int resolution)
+    {
+        return scale (this.peakRight, resolution);
+    }
+
+
+    /**
+     * Get the clip state of the left channel.
+     *
+     * @return True if clipped
+     */
+    public boolean isLeftClipped ()
+    {
+        return this.left >= CLIP_BORDER;
+    }
+
+
+    /**
+     * Get the clip state of the right channel.
+     *
+     * @return True if clipped
+     */
+    public boolean isRightClipped ()
+    {
+        return this.right >= CLIP_BORDER;
+    }
+
+
+    private static int limit (final int value)
+    {
+        // Limit value due to https://github.com/teotigraphix/Framework4Bitwig/issues/98
+        return value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
+    }
+
+
+    private static int scale (final int value, final int resolution)
+    {
+        return value * resolution / MAX_RESOLUTION;
+    }
+}
@@ -21,6 +21,11 @@ import java.util.Optional;
  */
 public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
 {
+    private boolean     isSelectionTracked = false;
+    private int         selectedIndex      = -1;
+    private Optional<T> selectedItem       = Optional.empty ();
+
+
     /**
      * Constructor.
      *
@@ -64,6 +69,9 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
     @Override
     public Optional<T> getSelectedItem ()
     {
+        if (this.isSelectionTracked)
+            return this.selectedIndex >= 0 && this.selectedItem.get ().isSelected () ? this.selectedItem : Optional.empty ();
+
         for (int i = 0; i < this.getPageSize (); i++)
         {
             final T item = this.getItem (i);
@@ -136,9 +144,7 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
     @Override
     public boolean canScrollBackwards ()
     {
-        final Optional<T> sel = this.getSelectedItem ();
-        final int selIndex = sel.isPresent () ? sel.get ().getIndex () : -1;
-        return selIndex > 0 || this.canScrollPageBackwards ();
+        return this.getSelectedIndex () > 0 || this.canScrollPageBackwards ();
     }
 
 
@@ -146,8 +152,52 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
     @Override
     public boolean canScrollForwards ()
     {
-        final Optional<T> sel = this.getSelectedItem ();
-        final int selIndex = sel.isPresent () ? sel.get ().getIndex () : -1;
+        final int selIndex = this.getSelectedIndex ();
         return selIndex >= 0 && selIndex < this.getPageSize () - 1 && this.getItem (selIndex + 1).doesExist () || this.canScrollPageForwards ();
     }
+
+
+    /**
+     * Get the index of the selected item in the page.
+     *
+     * @return The index or -1 if no item is selected
+     */
+    protected int getSelectedIndex ()
+    {
+        if (this.isSelectionTracked)
+            return this.selectedIndex >= 0 && this.getItem (this.selectedIndex).isSelected () ? this.selectedIndex : -1;
+
+        for (int i = 0; i < this.getPageSize (); i++)
+        {
+            if (this.getItem (i).isSelected ())
+                return i;
+        }
+        return -1;
+    }
+
+
+    /**
+     * Keeps track of the selected item. Banks which report all selection changes of their items
+     * with this method no longer need to search for the selected item.
+     *
+     * @param itemIndex The index of the item which selection state has changed
+     * @param isSelected True if selected otherwise false
+     */
+    @Override
+    protected void notifySelectionObservers (final int itemIndex, final boolean isSelected)
+    {
+        this.isSelectionTracked = true;
+        if (isSelected)
+        {
+            this.selectedIndex = itemIndex;
+            this.selectedItem = Optional.of (this.getItem (itemIndex));
+        }
+        else if (this.selectedIndex == itemIndex)
+        {
+            this.selectedIndex = -1;
+            this.selectedItem = Optional.empty ();
+        }
+
+        super.notifySelectionObservers (itemIndex, isSelected);
+    }
 }
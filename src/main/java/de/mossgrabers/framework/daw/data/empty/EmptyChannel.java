@@ -7,6 +7,7 @@ package de.mossgrabers.framework.daw.data.empty;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDeviceMetadata;
+import de.mossgrabers.framework.daw.data.VuMeter;
 import de.mossgrabers.framework.daw.data.bank.ISendBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.observer.IValueObserver;
@@ -20,7 +21,9 @@ import de.mossgrabers.framework.parameter.IParameter;
  */
 public class EmptyChannel extends EmptyItem implements IChannel
 {
-    private final int sendPageSize;
+    private static final VuMeter EMPTY_VU_METER = new VuMeter ();
+
+    private final int            sendPageSize;
 
 
     /**
@@ -178,6 +181,14 @@ public class EmptyChannel extends EmptyItem implements IChannel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public VuMeter getVuMeter ()
+    {
+        return EMPTY_VU_METER;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getVu ()
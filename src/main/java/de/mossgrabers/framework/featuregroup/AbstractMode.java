@@ -30,8 +30,10 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
 
     protected boolean          isAbsolute;
     protected boolean          isActive;
+    protected boolean          showsVuMeters;
 
     private boolean []         isKnobTouched;
+    private boolean            hasAcquiredVuMeters;
 
 
     /**
@@ -56,6 +58,12 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     public void onActivate ()
     {
         this.isActive = true;
+
+        if (this.showsVuMeters && !this.hasAcquiredVuMeters)
+        {
+            this.hasAcquiredVuMeters = true;
+            this.model.getHost ().getVuMeterManager ().acquire ();
+        }
     }
 
 
@@ -64,6 +72,12 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     public void onDeactivate ()
     {
         this.isActive = false;
+
+        if (this.hasAcquiredVuMeters)
+        {
+            this.hasAcquiredVuMeters = false;
+            this.model.getHost ().getVuMeterManager ().release ();
+        }
     }
 
 
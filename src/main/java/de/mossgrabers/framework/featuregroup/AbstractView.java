@@ -16,7 +16,6 @@ import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
-import de.mossgrabers.framework.utils.ChordIdentifier;
 import de.mossgrabers.framework.utils.KeyManager;
 
 
@@ -110,7 +109,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
 
     protected String getChordName ()
     {
-        return ChordIdentifier.identifyChord (this.keyManager.getMidiNotesFromPressedKeys ());
+        return this.keyManager.getChordName ();
     }
 
 
@@ -4,10 +4,13 @@
 
 package de.mossgrabers.framework.featuregroup;
 
+import de.mossgrabers.framework.observer.IObserverManagement;
+import de.mossgrabers.framework.observer.ObserverManager;
 import de.mossgrabers.framework.utils.FrameworkException;
 
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -32,6 +35,8 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
 
     private final List<FeatureGroupChangeListener<E>> changeListeners   = new ArrayList<> ();
     private final List<FeatureGroupManager<E, F>>     connectedManagers = new ArrayList<> ();
+    private final Map<F, List<IObserverManagement>>   acquired          = new IdentityHashMap<> ();
+    private ObserverManager                           observerManager;
 
 
     /**
@@ -45,6 +50,18 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     }
 
 
+    /**
+     * Set the observer manager which enables the observers of the model objects on which the
+     * active feature group depends.
+     *
+     * @param observerManager The observer manager
+     */
+    public void setObserverManager (final ObserverManager observerManager)
+    {
+        this.observerManager = observerManager;
+    }
+
+
     /**
      * Register a feature group.
      *
@@ -127,13 +144,13 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         // Deactivate the current temporary or active feature group
         final F deactivate = this.getActive ();
         if (deactivate != null)
-            deactivate.onDeactivate ();
+            this.deactivate (deactivate);
         this.temporaryID = null;
 
         // Activate the feature group
         this.previousID = this.activeID;
         this.activeID = id;
-        this.get (this.activeID).onActivate ();
+        this.activate (this.get (this.activeID));
 
         if (syncSiblings)
             this.connectedManagers.forEach (sibling -> sibling.setActive (featureGroupID, false));
@@ -173,14 +190,14 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         // Deactivate the current temporary or active feature group
         final F deactivate = this.getActive ();
         if (deactivate != null)
-            deactivate.onDeactivate ();
+            this.deactivate (deactivate);
 
         // Activate the new temporary feature group
         this.temporaryID = featureGroupID;
         final F featureGroup = this.get (this.temporaryID);
         if (featureGroup == null)
             throw new FrameworkException ("Attempt to set the temporary feature group to non-existing: " + featureGroupID);
-        featureGroup.onActivate ();
+        this.activate (featureGroup);
 
         if (syncSiblings)
             this.connectedManagers.forEach (sibling -> sibling.setActive (featureGroupID, false));
@@ -341,7 +358,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         if (this.temporaryID != null)
         {
             oldID = this.temporaryID;
-            this.get (this.temporaryID).onDeactivate ();
+            this.deactivate (this.get (this.temporaryID));
             this.temporaryID = null;
             F featureGroup = this.get (this.activeID);
             if (featureGroup == null)
@@ -349,12 +366,12 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
                 this.activeID = this.defaultID;
                 featureGroup = this.get (this.activeID);
             }
-            featureGroup.onActivate ();
+            this.activate (featureGroup);
         }
         else if (this.previousID != null)
         {
             oldID = this.activeID;
-            this.get (this.activeID).onDeactivate ();
+            this.deactivate (this.get (this.activeID));
             this.activeID = this.previousID;
             F featureGroup = this.get (this.activeID);
             if (featureGroup == null)
@@ -362,7 +379,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
                 this.activeID = this.defaultID;
                 featureGroup = this.get (this.activeID);
             }
-            featureGroup.onActivate ();
+            this.activate (featureGroup);
         }
 
         if (syncSiblings)
@@ -373,6 +390,39 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     }
 
 
+    /**
+     * Activates the feature group and acquires the observers of its model dependencies.
+     *
+     * @param featureGroup The feature group to activate
+     */
+    private void activate (final F featureGroup)
+    {
+        if (this.observerManager != null && !this.acquired.containsKey (featureGroup))
+        {
+            final List<IObserverManagement> modelObjects = featureGroup.getModelDependencies ();
+            this.acquired.put (featureGroup, modelObjects);
+            modelObjects.forEach (this.observerManager::acquire);
+        }
+
+        featureGroup.onActivate ();
+    }
+
+
+    /**
+     * Deactivates the feature group and releases the observers of its model dependencies.
+     *
+     * @param featureGroup The feature group to deactivate
+     */
+    private void deactivate (final F featureGroup)
+    {
+        featureGroup.onDeactivate ();
+
+        final List<IObserverManagement> modelObjects = this.acquired.remove (featureGroup);
+        if (modelObjects != null)
+            modelObjects.forEach (this.observerManager::release);
+    }
+
+
     /**
      * Register another manager. If a feature group changes all states are synchronized to the
      * registered siblings.
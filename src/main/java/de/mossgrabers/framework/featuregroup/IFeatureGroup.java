@@ -5,6 +5,10 @@
 package de.mossgrabers.framework.featuregroup;
 
 import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.observer.IObserverManagement;
+
+import java.util.Collections;
+import java.util.List;
 
 
 /**
@@ -35,6 +39,20 @@ public interface IFeatureGroup
     void onDeactivate ();
 
 
+    /**
+     * Get the model objects which are read by the feature group. The observers of these objects
+     * are enabled while the feature group is active and disabled as soon as no other active feature
+     * group (on any surface) requires them. Only declare objects which are not read anywhere else
+     * (e.g. by commands or views), since undeclared objects simply stay enabled.
+     *
+     * @return The model objects, empty by default
+     */
+    default List<IObserverManagement> getModelDependencies ()
+    {
+        return Collections.emptyList ();
+    }
+
+
     /**
      * Get the color for a button, which is controlled by the feature group.
      *
@@ -13,6 +13,7 @@ import de.mossgrabers.framework.controller.ContinuousID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.featuregroup.AbstractParameterMode;
+import de.mossgrabers.framework.observer.IObserverManagement;
 import de.mossgrabers.framework.parameter.IParameter;
 import de.mossgrabers.framework.parameterprovider.IParameterProvider;
 import de.mossgrabers.framework.parameterprovider.device.BankParameterProvider;
@@ -99,6 +100,14 @@ public class ProjectParamsMode<S extends IControlSurface<C>, C extends Configura
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public List<IObserverManagement> getModelDependencies ()
+    {
+        return List.of (this.model.getProject ().getParameterBank (), this.model.getCursorTrack ().getParameterBank ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onKnobTouch (final int index, final boolean isTouched)
@@ -0,0 +1,70 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * Enables and disables the observers of model objects depending on how many consumers (e.g. active
+ * modes and views on all surfaces) currently need them. The observers of an object are enabled
+ * when the first consumer acquires it and disabled when the last consumer releases it.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class ObserverManager
+{
+    private final Map<IObserverManagement, Integer> referenceCounts = new IdentityHashMap<> ();
+
+
+    /**
+     * Request the observers of a model object. Each call must be balanced with a call to release.
+     *
+     * @param modelObject The model object
+     */
+    public void acquire (final IObserverManagement modelObject)
+    {
+        final int count = this.referenceCounts.getOrDefault (modelObject, Integer.valueOf (0)).intValue () + 1;
+        this.referenceCounts.put (modelObject, Integer.valueOf (count));
+        if (count == 1)
+            modelObject.enableObservers (true);
+    }
+
+
+    /**
+     * Release the observers of a model object. If there are no more consumers the observers are
+     * disabled.
+     *
+     * @param modelObject The model object
+     */
+    public void release (final IObserverManagement modelObject)
+    {
+        final Integer count = this.referenceCounts.get (modelObject);
+        if (count == null)
+            return;
+
+        if (count.intValue () > 1)
+        {
+            this.referenceCounts.put (modelObject, Integer.valueOf (count.intValue () - 1));
+            return;
+        }
+
+        this.referenceCounts.remove (modelObject);
+        modelObject.enableObservers (false);
+    }
+
+
+    /**
+     * Check if a model object is currently required by at least one consumer.
+     *
+     * @param modelObject The model object
+     * @return True if required
+     */
+    public boolean isUsed (final IObserverManagement modelObject)
+    {
+        return this.referenceCounts.containsKey (modelObject);
+    }
+}
@@ -10,27 +10,58 @@ import de.mossgrabers.framework.utils.StringUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 
 /**
- * Base class for sending OSC messages to an OSC server.
+ * Base class for sending OSC messages to an OSC server. Values can either be sent to an address
+ * string or to the slot of an address which was registered once. The last values of the slots are
+ * kept in primitive arrays and compared without boxing, messages are only created for changed
+ * values.
+ * <p>
+ * Each flush is stamped with a sequence number. The messages of the recent flushes are kept, which
+ * allows a client to request only the changes it missed (e.g. after lost UDP packets or a
+ * reconnect) or a snapshot of all last sent values.
  *
  * @author Jürgen Moßgraber
  */
 public abstract class AbstractOpenSoundControlWriter implements IOpenSoundControlWriter
 {
-    protected final IHost                          host;
-    protected final IModel                         model;
-    protected final IOpenSoundControlConfiguration configuration;
+    private static final int                            INITIAL_SLOT_CAPACITY = 256;
+    private static final int                            HISTORY_SIZE          = 256;
+    private static final String                         SEQUENCE_ADDRESS      = "/sequence";
 
-    protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    protected final IHost                               host;
+    protected final IModel                              model;
+    protected final IOpenSoundControlConfiguration      configuration;
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    protected final IOpenSoundControlClient             oscClient;
+    protected final Map<String, Object>                 oldValues             = new HashMap<> ();
+
+    private final List<IOpenSoundControlMessage>        messages              = new ArrayList<> ();
+    private final OpenSoundControlSubscriptions         subscriptions         = new OpenSoundControlSubscriptions ();
+
+    private int                                         sequence;
+    private final IOpenSoundControlMessage [] []        history               = new IOpenSoundControlMessage [HISTORY_SIZE] [];
+    private final Map<String, IOpenSoundControlMessage> snapshot              = new LinkedHashMap<> ();
+
+    private final Map<String, Integer>                  registeredSlots       = new HashMap<> ();
+    private int                                         slotCount;
+    private String []                                   slotAddresses         = new String [INITIAL_SLOT_CAPACITY];
+    private OpenSoundControlValueType []                slotTypes             = new OpenSoundControlValueType [INITIAL_SLOT_CAPACITY];
+    private boolean []                                  slotHasValue          = new boolean [INITIAL_SLOT_CAPACITY];
+    private int []                                      slotIntValues         = new int [INITIAL_SLOT_CAPACITY];
+    private float []                                    slotFloatValues       = new float [INITIAL_SLOT_CAPACITY];
+    private String []                                   slotStringValues      = new String [INITIAL_SLOT_CAPACITY];
+    private int []                                      slotFilterVersions    = new int [INITIAL_SLOT_CAPACITY];
+    private boolean []                                  slotIsSubscribed      = new boolean [INITIAL_SLOT_CAPACITY];
 
 
     /**
@@ -72,6 +103,10 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
         synchronized (this.messages)
         {
+            this.sequence++;
+            this.record (this.messages);
+            this.messages.add (this.createSequenceMessage ());
+
             try
             {
                 if (updateAddress != null)
@@ -93,6 +128,138 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getSequence ()
+    {
+        synchronized (this.messages)
+        {
+            return this.sequence;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSnapshot ()
+    {
+        synchronized (this.messages)
+        {
+            this.resend (this.snapshot.values ());
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendChangesSince (final int sequence)
+    {
+        final Map<String, IOpenSoundControlMessage> changes = new LinkedHashMap<> ();
+        synchronized (this.messages)
+        {
+            final int missed = this.sequence - sequence;
+            if (missed >= 0 && missed <= HISTORY_SIZE)
+            {
+                // Only send the latest message of each address, in the order of the changes
+                for (int i = missed - 1; i >= 0; i--)
+                {
+                    for (final IOpenSoundControlMessage message: this.history[Math.floorMod (this.sequence - i, HISTORY_SIZE)])
+                    {
+                        changes.remove (message.getAddress ());
+                        changes.put (message.getAddress (), message);
+                    }
+                }
+                this.resend (changes.values ());
+                return;
+            }
+        }
+
+        // The requested changes are no longer available (or the sequence is from a previous
+        // session), send everything
+        this.flush (true);
+    }
+
+
+    /**
+     * Store the messages of a flush in the history and the snapshot.
+     *
+     * @param flushedMessages The messages of the flush
+     */
+    private void record (final List<IOpenSoundControlMessage> flushedMessages)
+    {
+        final IOpenSoundControlMessage [] delta = flushedMessages.toArray (new IOpenSoundControlMessage [flushedMessages.size ()]);
+        this.history[Math.floorMod (this.sequence, HISTORY_SIZE)] = delta;
+        for (final IOpenSoundControlMessage message: delta)
+            this.snapshot.put (message.getAddress (), message);
+    }
+
+
+    /**
+     * Send already flushed messages again, followed by the current sequence number. Messages of
+     * addresses which are no longer subscribed are skipped.
+     *
+     * @param flushedMessages The messages to send
+     */
+    private void resend (final Collection<IOpenSoundControlMessage> flushedMessages)
+    {
+        final List<IOpenSoundControlMessage> resendMessages = new ArrayList<> (flushedMessages.size () + 1);
+        for (final IOpenSoundControlMessage message: flushedMessages)
+        {
+            if (this.subscriptions.matches (message.getAddress ()))
+                resendMessages.add (message);
+        }
+        resendMessages.add (this.createSequenceMessage ());
+
+        try
+        {
+            this.logMessages (resendMessages);
+            this.oscClient.sendBundle (resendMessages);
+        }
+        catch (final IOException ex)
+        {
+            this.model.getHost ().error ("Could not send UDP message.", ex);
+        }
+    }
+
+
+    private IOpenSoundControlMessage createSequenceMessage ()
+    {
+        return this.host.createOSCMessage (SEQUENCE_ADDRESS, Collections.singletonList (Integer.valueOf (this.sequence)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe (final String pattern)
+    {
+        this.subscriptions.subscribe (pattern);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void unsubscribe (final String pattern)
+    {
+        this.subscriptions.unsubscribe (pattern);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void unsubscribeAll ()
+    {
+        this.subscriptions.clear ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSubscribed (final String addressPrefix)
+    {
+        return this.subscriptions.isSubscribed (addressPrefix);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void fastSendOSC (final String address, final int [] numbers)
@@ -163,6 +330,156 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int registerAddress (final String address, final OpenSoundControlValueType type)
+    {
+        final Integer registered = this.registeredSlots.get (address);
+        if (registered != null)
+        {
+            final int slot = registered.intValue ();
+            if (this.slotTypes[slot] != type)
+                throw new IllegalArgumentException ("Address " + address + " is already registered with type " + this.slotTypes[slot]);
+            return slot;
+        }
+
+        if (this.slotCount == this.slotAddresses.length)
+        {
+            final int capacity = 2 * this.slotCount;
+            this.slotAddresses = Arrays.copyOf (this.slotAddresses, capacity);
+            this.slotTypes = Arrays.copyOf (this.slotTypes, capacity);
+            this.slotHasValue = Arrays.copyOf (this.slotHasValue, capacity);
+            this.slotIntValues = Arrays.copyOf (this.slotIntValues, capacity);
+            this.slotFloatValues = Arrays.copyOf (this.slotFloatValues, capacity);
+            this.slotStringValues = Arrays.copyOf (this.slotStringValues, capacity);
+            this.slotFilterVersions = Arrays.copyOf (this.slotFilterVersions, capacity);
+            this.slotIsSubscribed = Arrays.copyOf (this.slotIsSubscribed, capacity);
+        }
+
+        final int slot = this.slotCount++;
+        this.slotAddresses[slot] = address;
+        this.slotTypes[slot] = type;
+        this.registeredSlots.put (address, Integer.valueOf (slot));
+        return slot;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSCColor (final int slot, final double red, final double green, final double blue, final boolean dump)
+    {
+        if (!this.isSlotSubscribed (slot, OpenSoundControlValueType.COLOR))
+            return;
+
+        final int r = (int) Math.round (red * 255.0);
+        final int g = (int) Math.round (green * 255.0);
+        final int b = (int) Math.round (blue * 255.0);
+        if (this.updateIntSlot (slot, r << 16 | g << 8 | b, dump))
+            this.addMessage (this.slotAddresses[slot], "rgb(" + r + "," + g + "," + b + ")");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int slot, final boolean value, final boolean dump)
+    {
+        if (!this.isSlotSubscribed (slot, OpenSoundControlValueType.BOOLEAN))
+            return;
+
+        final int intValue = value ? 1 : 0;
+        if (this.updateIntSlot (slot, intValue, dump))
+            this.addMessage (this.slotAddresses[slot], Integer.valueOf (intValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int slot, final double value, final boolean dump)
+    {
+        if (!this.isSlotSubscribed (slot, OpenSoundControlValueType.FLOAT))
+            return;
+
+        // Using float here since Double seems to be always received as 0 in Max.
+        final float floatValue = (float) value;
+        if (!dump && this.slotHasValue[slot] && Float.compare (this.slotFloatValues[slot], floatValue) == 0)
+            return;
+        this.slotHasValue[slot] = true;
+        this.slotFloatValues[slot] = floatValue;
+        this.addMessage (this.slotAddresses[slot], Float.valueOf (floatValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int slot, final int value, final boolean dump)
+    {
+        if (!this.isSlotSubscribed (slot, OpenSoundControlValueType.INT))
+            return;
+
+        if (this.updateIntSlot (slot, value, dump))
+            this.addMessage (this.slotAddresses[slot], Integer.valueOf (value));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int slot, final String value, final boolean dump)
+    {
+        if (!this.isSlotSubscribed (slot, OpenSoundControlValueType.STRING))
+            return;
+
+        // Compare the original text, it is only converted if it has changed
+        if (!dump && this.slotHasValue[slot] && Objects.equals (this.slotStringValues[slot], value))
+            return;
+        this.slotHasValue[slot] = true;
+        this.slotStringValues[slot] = value;
+        this.addMessage (this.slotAddresses[slot], StringUtils.fixASCII (value));
+    }
+
+
+    /**
+     * Store a new integer value in a slot.
+     *
+     * @param slot The ID of the slot
+     * @param value The new value
+     * @param dump True to dump (ignore cache)
+     * @return True if the value has changed or dump is true and a message needs to be sent
+     */
+    private boolean updateIntSlot (final int slot, final int value, final boolean dump)
+    {
+        if (!dump && this.slotHasValue[slot] && this.slotIntValues[slot] == value)
+            return false;
+        this.slotHasValue[slot] = true;
+        this.slotIntValues[slot] = value;
+        return true;
+    }
+
+
+    /**
+     * Checks the type of a slot and if its address is subscribed. The result of the subscription
+     * check is cached until the subscriptions change.
+     *
+     * @param slot The ID of the slot
+     * @param type The type of the value to send
+     * @return True if the value should be sent
+     */
+    private boolean isSlotSubscribed (final int slot, final OpenSoundControlValueType type)
+    {
+        if (slot < 0 || slot >= this.slotCount)
+            throw new IllegalArgumentException ("Unknown OSC address slot: " + slot);
+        if (this.slotTypes[slot] != type)
+            throw new IllegalArgumentException ("Address " + this.slotAddresses[slot] + " is registered with type " + this.slotTypes[slot] + " and not " + type);
+
+        final int version = this.subscriptions.getVersion ();
+        if (this.slotFilterVersions[slot] != version)
+        {
+            this.slotFilterVersions[slot] = version;
+            this.slotIsSubscribed[slot] = this.subscriptions.matches (this.slotAddresses[slot]);
+        }
+        return this.slotIsSubscribed[slot];
+    }
+
+
     /**
      * Send an OSC message with an object value. Tests if the value(s) of given message is identical
      * to that of the cache. If this is not the case or if dump is true, the message is added to the
@@ -191,6 +508,8 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
     {
+        if (!this.subscriptions.matches (address))
+            return;
         if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
             return;
         this.oldValues.put (cacheAddress, testValue);
@@ -204,9 +523,21 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
         else
             list = Collections.singletonList (value);
 
+        this.addMessage (address, list);
+    }
+
+
+    private void addMessage (final String address, final Object value)
+    {
+        this.addMessage (address, Collections.singletonList (value));
+    }
+
+
+    private void addMessage (final String address, final List<?> values)
+    {
         synchronized (this.messages)
         {
-            this.messages.add (this.host.createOSCMessage (address, list));
+            this.messages.add (this.host.createOSCMessage (address, values));
         }
     }
 
@@ -25,10 +25,22 @@ public interface IOpenSoundControlClient
 
 
     /**
-     * Send several messages to the server as an OSC bundle.
+     * Send several messages to the server as one or more OSC bundles. The messages are queued and
+     * might be sent after the method has returned.
      *
      * @param messages The messages to send
      * @throws IOException Could not send the messages
      */
     void sendBundle (List<IOpenSoundControlMessage> messages) throws IOException;
+
+
+    /**
+     * Configure how bundles are transmitted.
+     *
+     * @param maxBundleSize The maximum number of bytes of a bundle, messages are split into several
+     *            bundles to stay below this size
+     * @param bundleDelay The delay in milliseconds between sending two bundles to give slow
+     *            clients time to process them, 0 to send all bundles at once
+     */
+    void setTransmissionLimits (int maxBundleSize, int bundleDelay);
 }
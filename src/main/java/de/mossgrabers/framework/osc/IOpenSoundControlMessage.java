@@ -25,4 +25,72 @@ public interface IOpenSoundControlMessage
      * @return The values array
      */
     Object [] getValues ();
+
+
+    /**
+     * Calculates the number of bytes of the message when it is encoded for transmission.
+     *
+     * @return The size in bytes
+     */
+    default int getEncodedSize ()
+    {
+        final Object [] values = this.getValues ();
+
+        // Address and the type tag string (starts with a comma), both padded to 4 bytes
+        int size = getPaddedSize (getUTF8Length (this.getAddress ()) + 1) + getPaddedSize (values.length + 2);
+        for (final Object value: values)
+        {
+            if (value == null || value instanceof Boolean)
+                continue;
+            if (value instanceof Long || value instanceof Double)
+                size += 8;
+            else if (value instanceof Number)
+                size += 4;
+            else if (value instanceof final byte [] blob)
+                size += 4 + getPaddedSize (blob.length);
+            else
+                size += getPaddedSize (getUTF8Length (value.toString ()) + 1);
+        }
+        return size;
+    }
+
+
+    /**
+     * Get the number of bytes of a text encoded as UTF-8.
+     *
+     * @param text The text
+     * @return The number of bytes
+     */
+    private static int getUTF8Length (final String text)
+    {
+        int length = 0;
+        for (int i = 0; i < text.length (); i++)
+        {
+            final char c = text.charAt (i);
+            if (c < 0x80)
+                length++;
+            else if (c < 0x800)
+                length += 2;
+            else if (Character.isHighSurrogate (c))
+            {
+                length += 4;
+                i++;
+            }
+            else
+                length += 3;
+        }
+        return length;
+    }
+
+
+    /**
+     * Align a size to a multiple of 4 bytes as required by the OSC format.
+     *
+     * @param size The size
+     * @return The padded size
+     */
+    private static int getPaddedSize (final int size)
+    {
+        return (size + 3) & ~3;
+    }
 }
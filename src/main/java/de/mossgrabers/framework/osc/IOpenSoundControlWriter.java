@@ -19,6 +19,65 @@ public interface IOpenSoundControlWriter
     void flush (boolean dump);
 
 
+    /**
+     * Get the sequence number of the last flush. Each flush which sends messages increases the
+     * number by one and sends it with the address /sequence.
+     *
+     * @return The sequence number
+     */
+    int getSequence ();
+
+
+    /**
+     * Send the last sent values of all addresses again, without reading them from the model.
+     */
+    void sendSnapshot ();
+
+
+    /**
+     * Send all values which were changed after the flush with the given sequence number. Only the
+     * latest value of each address is sent. If the changes are no longer available, a full dump is
+     * sent.
+     *
+     * @param sequence The sequence number of the last flush which the client has received
+     */
+    void sendChangesSince (int sequence);
+
+
+    /**
+     * Subscribe to an address pattern. As long as there are no subscriptions, all addresses are
+     * sent. Otherwise only the addresses which start with one of the patterns. A '*' in a pattern
+     * matches any single segment of an address.
+     *
+     * @param pattern The address pattern
+     */
+    void subscribe (String pattern);
+
+
+    /**
+     * Remove the subscription of an address pattern.
+     *
+     * @param pattern The address pattern
+     */
+    void unsubscribe (String pattern);
+
+
+    /**
+     * Remove all subscriptions. All addresses are sent again.
+     */
+    void unsubscribeAll ();
+
+
+    /**
+     * Check if any address below the given prefix is subscribed. Use it to skip sending whole
+     * subtrees of addresses.
+     *
+     * @param addressPrefix The start of addresses, e.g. "/track/"
+     * @return True if the subtree needs to be sent
+     */
+    boolean isSubscribed (String addressPrefix);
+
+
     /**
      * Adds the message to the queue and calls flush.
      *
@@ -96,4 +155,73 @@ public interface IOpenSoundControlWriter
      * @param dump True to dump (ignore cache)
      */
     void sendOSC (String address, String value, boolean dump);
+
+    /**
+     * Register an OSC address for sending values with the slot based methods. Registering the
+     * addresses once (e.g. when a module is created) avoids building the address strings and boxing
+     * the values on each flush. The last sent value of a slot is cached to detect changes.
+     * Registering the same address again returns the same slot.
+     *
+     * @param address The address of the OSC message
+     * @param type The type of the values sent to the address
+     * @return The ID of the slot to use for sending values
+     */
+    int registerAddress (String address, OpenSoundControlValueType type);
+
+
+    /**
+     * Send a color value to a registered address of type COLOR. The message is only added to the
+     * messages list if the value has changed or if dump is true.
+     *
+     * @param slot The ID of the slot of the registered address
+     * @param red The red component of the color [0-1]
+     * @param green The green component of the color [0-1]
+     * @param blue The blue component of the color [0-1]
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSCColor (int slot, double red, double green, double blue, boolean dump);
+
+
+    /**
+     * Send a boolean value to a registered address of type BOOLEAN. The message is only added to
+     * the messages list if the value has changed or if dump is true.
+     *
+     * @param slot The ID of the slot of the registered address
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, boolean value, boolean dump);
+
+
+    /**
+     * Send a double value to a registered address of type FLOAT. The message is only added to the
+     * messages list if the value has changed or if dump is true.
+     *
+     * @param slot The ID of the slot of the registered address
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, double value, boolean dump);
+
+
+    /**
+     * Send an integer value to a registered address of type INT. The message is only added to the
+     * messages list if the value has changed or if dump is true.
+     *
+     * @param slot The ID of the slot of the registered address
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, int value, boolean dump);
+
+
+    /**
+     * Send a string value to a registered address of type STRING. The message is only added to the
+     * messages list if the value has changed or if dump is true.
+     *
+     * @param slot The ID of the slot of the registered address
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, String value, boolean dump);
 }
@@ -0,0 +1,176 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * The address prefixes to which the OSC client has subscribed. A pattern is a prefix of the
+ * addresses to send, a '*' matches any single segment, e.g. "/track/*&#47;volume" or
+ * "/device/param". As long as there are no subscriptions all addresses are sent.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OpenSoundControlSubscriptions
+{
+    private static final String   WILDCARD = "*";
+
+    private final List<String []> patterns = new ArrayList<> ();
+    // Starts at 1 so that caches which are initialized with 0 are always outdated
+    private int                   version  = 1;
+
+
+    /**
+     * Add a subscription.
+     *
+     * @param pattern The address pattern
+     * @return True if the subscription was added, false if it already existed
+     */
+    public boolean subscribe (final String pattern)
+    {
+        final String [] segments = split (pattern);
+        if (this.indexOf (segments) >= 0)
+            return false;
+        this.patterns.add (segments);
+        this.version++;
+        return true;
+    }
+
+
+    /**
+     * Remove a subscription.
+     *
+     * @param pattern The address pattern
+     */
+    public void unsubscribe (final String pattern)
+    {
+        final int index = this.indexOf (split (pattern));
+        if (index < 0)
+            return;
+        this.patterns.remove (index);
+        this.version++;
+    }
+
+
+    /**
+     * Remove all subscriptions. All addresses are sent again.
+     */
+    public void clear ()
+    {
+        if (this.patterns.isEmpty ())
+            return;
+        this.patterns.clear ();
+        this.version++;
+    }
+
+
+    /**
+     * Get the version of the subscriptions, which changes with each modification. Can be used to
+     * detect outdated caches of match results.
+     *
+     * @return The version
+     */
+    public int getVersion ()
+    {
+        return this.version;
+    }
+
+
+    /**
+     * Check if an address should be sent.
+     *
+     * @param address The full address of a message
+     * @return True if there are no subscriptions or the address matches one of them
+     */
+    public boolean matches (final String address)
+    {
+        return this.test (address, false);
+    }
+
+
+    /**
+     * Check if any address below the given prefix might be sent. Use this to skip whole subtrees.
+     *
+     * @param addressPrefix The start of addresses, e.g. "/track/"
+     * @return True if there are no subscriptions or addresses below the prefix might match one of
+     *         them
+     */
+    public boolean isSubscribed (final String addressPrefix)
+    {
+        return this.test (addressPrefix, true);
+    }
+
+
+    private boolean test (final String address, final boolean isPrefix)
+    {
+        if (this.patterns.isEmpty ())
+            return true;
+        for (final String [] pattern: this.patterns)
+        {
+            if (matches (pattern, address, isPrefix))
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Match the address segment by segment against the pattern.
+     *
+     * @param pattern The segments of the pattern
+     * @param address The address
+     * @param isPrefix If true the address is only the start of addresses, therefore it is a match
+     *            if the address is shorter than the pattern
+     * @return True if matched
+     */
+    private static boolean matches (final String [] pattern, final String address, final boolean isPrefix)
+    {
+        final int length = address.length ();
+        int start = address.startsWith ("/") ? 1 : 0;
+        int index = 0;
+        while (index < pattern.length)
+        {
+            if (start >= length)
+                return isPrefix;
+
+            int end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+
+            final String segment = pattern[index];
+            if (!WILDCARD.equals (segment) && (segment.length () != end - start || !address.regionMatches (start, segment, 0, segment.length ())))
+                return false;
+
+            index++;
+            start = end + 1;
+        }
+        return true;
+    }
+
+
+    private int indexOf (final String [] segments)
+    {
+        for (int i = 0; i < this.patterns.size (); i++)
+        {
+            if (Arrays.equals (this.patterns.get (i), segments))
+                return i;
+        }
+        return -1;
+    }
+
+
+    private static String [] split (final String pattern)
+    {
+        String p = pattern.trim ();
+        if (p.startsWith ("/"))
+            p = p.substring (1);
+        if (p.endsWith ("/"))
+            p = p.substring (0, p.length () - 1);
+        return p.isEmpty () ? new String [0] : p.split ("/");
+    }
+}
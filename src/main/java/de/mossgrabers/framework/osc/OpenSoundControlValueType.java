@@ -0,0 +1,24 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+/**
+ * The type of the value which is sent to a registered OSC address.
+ *
+ * @author Jürgen Moßgraber
+ */
+public enum OpenSoundControlValueType
+{
+    /** An integer value. */
+    INT,
+    /** A floating point value, sent as float. */
+    FLOAT,
+    /** A boolean value, sent as an integer of 0 or 1. */
+    BOOLEAN,
+    /** A string value. */
+    STRING,
+    /** A color, sent as a string in the format rgb(r,g,b). */
+    COLOR
+}
@@ -3,28 +3,72 @@ package de.mossgrabers.framework.scale;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 /**
- * Persistence helper for custom scales.
+ * Persistence helper for custom scales. The library is parsed on first use and kept in memory.
+ * Saves are written on a background thread after a short delay (changes in the meantime replace
+ * the pending save) and atomically replace the file. Changes of the file made outside of the
+ * extension are detected by a file watcher and reloaded; users can check for them with
+ * {@link #getVersion()} or get notified by adding a listener. Call {@link #close()} when the
+ * library is no longer used to stop the watcher and the background thread.
  */
 public class CustomScaleLibrary
 {
-    private final Path          file;
-    private final ObjectMapper  mapper;
-    private volatile String     lastError;
+    /** The delay after the last change before the library is written to disk. */
+    private static final long              SAVE_DELAY_MS   = 500;
+    /** The delay after the last file system event before the library is reloaded. */
+    private static final long              RELOAD_DELAY_MS = 200;
+    /** The maximum time to wait for the background thread to finish when closing. */
+    private static final long              CLOSE_TIMEOUT_S = 5;
+
+    private static CustomScaleLibrary      instance;
+
+    private final Path                     file;
+    private final ObjectMapper             mapper;
+    private final Object                   writeLock       = new Object ();
+    private volatile String                lastError;
+
+    private final ScheduledExecutorService worker          = Executors.newSingleThreadScheduledExecutor (CustomScaleLibrary::createWorkerThread);
+    private volatile List<CustomScale>     scales;
+    private volatile int                   version         = 0;
+    private List<CustomScale>              pendingSave;
+    private ScheduledFuture<?>             saveFuture;
+    private ScheduledFuture<?>             reloadFuture;
+    private FileTime                       lastWritten;
+    private boolean                        isWatching      = false;
+    private WatchService                   watchService;
+    private boolean                        isClosed        = false;
+
+    private final List<Consumer<List<CustomScale>>> listeners = new CopyOnWriteArrayList<> ();
 
 
     public CustomScaleLibrary (final Path file)
@@ -35,6 +79,20 @@ public class CustomScaleLibrary
     }
 
 
+    /**
+     * Get the shared library which uses the default file. All controllers should use this instance
+     * so that they see the same scales and do not write the file concurrently.
+     *
+     * @return The library
+     */
+    public static synchronized CustomScaleLibrary getInstance ()
+    {
+        if (instance == null)
+            instance = new CustomScaleLibrary (getDefaultFile ());
+        return instance;
+    }
+
+
     public static Path getDefaultFile ()
     {
         final Path baseDir = getDefaultBaseDirectory ();
@@ -48,12 +106,205 @@ public class CustomScaleLibrary
     }
 
 
+    /**
+     * Get the custom scales. The file is parsed on the first call, afterwards the scales are
+     * served from memory and the file is watched for external changes.
+     *
+     * @return The scales, the list is not modifiable
+     */
+    public List<CustomScale> getScales ()
+    {
+        final List<CustomScale> result = this.scales;
+        if (result != null)
+            return result;
+
+        synchronized (this)
+        {
+            if (this.scales == null)
+            {
+                this.scales = Collections.unmodifiableList (this.loadAll ());
+                this.startWatching ();
+            }
+            return this.scales;
+        }
+    }
+
+
+    /**
+     * Get the version of the scales. It changes whenever the scales were modified (by a call to
+     * save or by reloading the file after an external change).
+     *
+     * @return The version
+     */
+    public int getVersion ()
+    {
+        return this.version;
+    }
+
+
+    /**
+     * Add a listener which is notified with the new scales whenever they were modified (by a call
+     * to save or by reloading the file after an external change). The listener might be called
+     * from a background thread.
+     *
+     * @param listener The listener
+     */
+    public void addListener (final Consumer<List<CustomScale>> listener)
+    {
+        this.listeners.add (listener);
+    }
+
+
+    /**
+     * Remove a listener.
+     *
+     * @param listener The listener
+     */
+    public void removeListener (final Consumer<List<CustomScale>> listener)
+    {
+        this.listeners.remove (listener);
+    }
+
+
+    /**
+     * Check if there are registered listeners, which means that the library is still in use.
+     *
+     * @return True if there is at least one listener
+     */
+    public boolean hasListeners ()
+    {
+        return !this.listeners.isEmpty ();
+    }
+
+
+    /**
+     * Replace the scales. They are available immediately from {@link #getScales()}, writing them
+     * to disk is delayed and happens in the background.
+     *
+     * @param scales The scales to store
+     */
+    public void save (final List<CustomScale> scales)
+    {
+        if (scales == null)
+            throw new IllegalArgumentException ("scales must not be null");
+
+        final List<CustomScale> saved;
+        final boolean writeNow;
+        synchronized (this)
+        {
+            this.scales = Collections.unmodifiableList (new ArrayList<> (scales));
+            this.version++;
+            this.startWatching ();
+
+            this.pendingSave = this.scales;
+            if (this.saveFuture != null)
+                this.saveFuture.cancel (false);
+            writeNow = this.isClosed;
+            this.saveFuture = writeNow ? null : this.worker.schedule (this::writePendingSave, SAVE_DELAY_MS, TimeUnit.MILLISECONDS);
+            saved = this.scales;
+        }
+
+        // The background thread is gone, write it immediately
+        if (writeNow)
+            this.writePendingSave ();
+
+        this.notifyListeners (saved);
+    }
+
+
+    /**
+     * Write a pending save, stop watching the file and shut down the background thread. The shared
+     * instance is replaced by a new one on the next call to {@link #getInstance()}.
+     */
+    public void close ()
+    {
+        this.flushPendingSave ();
+
+        synchronized (this)
+        {
+            if (this.isClosed)
+                return;
+            this.isClosed = true;
+
+            if (this.reloadFuture != null)
+                this.reloadFuture.cancel (false);
+            if (this.watchService != null)
+            {
+                try
+                {
+                    // Ends the watcher thread
+                    this.watchService.close ();
+                }
+                catch (final IOException ex)
+                {
+                    this.lastError = ex.getMessage ();
+                }
+                this.watchService = null;
+            }
+        }
+
+        this.worker.shutdown ();
+        try
+        {
+            if (!this.worker.awaitTermination (CLOSE_TIMEOUT_S, TimeUnit.SECONDS))
+                this.lastError = "Custom scales I/O thread did not end in " + CLOSE_TIMEOUT_S + " seconds.";
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+        this.listeners.clear ();
+
+        synchronized (CustomScaleLibrary.class)
+        {
+            if (instance == this)
+                instance = null;
+        }
+    }
+
+
+    /**
+     * Write a pending save immediately, e.g. when the extension shuts down. Returns after the file
+     * was written.
+     */
+    public void flushPendingSave ()
+    {
+        final Future<?> future;
+        synchronized (this)
+        {
+            if (this.saveFuture != null)
+                this.saveFuture.cancel (false);
+            // Write on the background thread as well, which also waits for a save in progress
+            future = this.isClosed ? null : this.worker.submit (this::writePendingSave);
+        }
+
+        if (future == null)
+        {
+            this.writePendingSave ();
+            return;
+        }
+
+        try
+        {
+            future.get ();
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+        catch (final ExecutionException ex)
+        {
+            this.lastError = ex.getCause ().getMessage ();
+        }
+    }
+
+
     public List<CustomScale> loadAll ()
     {
         this.lastError = null;
 
         if (!Files.isRegularFile (this.file))
-            return Collections.emptyList ();
+            return new ArrayList<> ();
 
         try (InputStream in = Files.newInputStream (this.file))
         {
@@ -79,7 +330,7 @@ public class CustomScaleLibrary
             if (!validationErrors.isEmpty ())
             {
                 this.lastError = String.join ("; ", validationErrors);
-                return Collections.emptyList ();
+                return new ArrayList<> ();
             }
 
             final List<CustomScale> result = new ArrayList<> (all.length);
@@ -89,7 +340,7 @@ public class CustomScaleLibrary
         catch (final IOException ex)
         {
             this.lastError = ex.getMessage ();
-            return Collections.emptyList ();
+            return new ArrayList<> ();
         }
     }
 
@@ -101,15 +352,174 @@ public class CustomScaleLibrary
         if (scales == null)
             throw new IllegalArgumentException ("scales must not be null");
 
-        Files.createDirectories (this.file.getParent ());
+        // Saves after closing are written on the calling thread, only one may use the temporary
+        // file at a time
+        synchronized (this.writeLock)
+        {
+            Files.createDirectories (this.file.getParent ());
+
+            final Path tmp = this.file.resolveSibling (this.file.getFileName ().toString () + ".tmp");
+            try (OutputStream out = Files.newOutputStream (tmp))
+            {
+                this.mapper.writeValue (out, scales);
+            }
+
+            try
+            {
+                Files.move (tmp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (final AtomicMoveNotSupportedException ex)
+            {
+                Files.move (tmp, this.file, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            synchronized (this)
+            {
+                this.lastWritten = Files.getLastModifiedTime (this.file);
+            }
+        }
+    }
+
+
+    private void writePendingSave ()
+    {
+        final List<CustomScale> toSave;
+        synchronized (this)
+        {
+            toSave = this.pendingSave;
+            this.pendingSave = null;
+            this.saveFuture = null;
+        }
+        if (toSave == null)
+            return;
+
+        try
+        {
+            this.saveAll (toSave);
+        }
+        catch (final IOException ex)
+        {
+            this.lastError = ex.getMessage ();
+        }
+    }
+
+
+    /**
+     * Start a daemon thread which watches the folder of the library file for external changes.
+     * Must be called while synchronized.
+     */
+    private void startWatching ()
+    {
+        if (this.isWatching || this.isClosed)
+            return;
+        this.isWatching = true;
+
+        final Path folder = this.file.getParent ();
+        final WatchService service;
+        try
+        {
+            Files.createDirectories (folder);
+            service = FileSystems.getDefault ().newWatchService ();
+            folder.register (service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+        catch (final IOException | UnsupportedOperationException ex)
+        {
+            // No hot reload but everything else still works
+            return;
+        }
+        this.watchService = service;
+
+        final Thread watcher = new Thread ( () -> this.watch (service), "Custom Scales Watcher");
+        watcher.setDaemon (true);
+        watcher.start ();
+    }
+
+
+    private void watch (final WatchService watchService)
+    {
+        final Path fileName = this.file.getFileName ();
+        try
+        {
+            while (true)
+            {
+                final WatchKey key = watchService.take ();
+                for (final WatchEvent<?> event: key.pollEvents ())
+                {
+                    if (fileName.equals (event.context ()))
+                        this.scheduleReload ();
+                }
+                if (!key.reset ())
+                    return;
+            }
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+        catch (final ClosedWatchServiceException ex)
+        {
+            // Watching ended
+        }
+    }
+
+
+    private synchronized void scheduleReload ()
+    {
+        if (this.isClosed)
+            return;
+
+        // Editors often write a file in several steps, wait until it settled
+        if (this.reloadFuture != null)
+            this.reloadFuture.cancel (false);
+        this.reloadFuture = this.worker.schedule (this::reload, RELOAD_DELAY_MS, TimeUnit.MILLISECONDS);
+    }
+
 
-        final Path tmp = this.file.resolveSibling (this.file.getFileName ().toString () + ".tmp");
-        try (OutputStream out = Files.newOutputStream (tmp))
+    private void reload ()
+    {
+        try
+        {
+            if (!Files.isRegularFile (this.file))
+                return;
+            final FileTime modified = Files.getLastModifiedTime (this.file);
+            synchronized (this)
+            {
+                // Ignore our own saves and do not overwrite changes which are not yet written
+                if (modified.equals (this.lastWritten) || this.pendingSave != null)
+                    return;
+            }
+        }
+        catch (final IOException ex)
         {
-            this.mapper.writeValue (out, scales);
+            return;
         }
 
-        Files.move (tmp, this.file, StandardCopyOption.REPLACE_EXISTING);
+        final List<CustomScale> loaded = this.loadAll ();
+        if (this.lastError != null)
+            return;
+
+        final List<CustomScale> reloaded = Collections.unmodifiableList (loaded);
+        synchronized (this)
+        {
+            this.scales = reloaded;
+            this.version++;
+        }
+        this.notifyListeners (reloaded);
+    }
+
+
+    private void notifyListeners (final List<CustomScale> newScales)
+    {
+        for (final Consumer<List<CustomScale>> listener: this.listeners)
+            listener.accept (newScales);
+    }
+
+
+    private static Thread createWorkerThread (final Runnable runnable)
+    {
+        final Thread thread = new Thread (runnable, "Custom Scales I/O");
+        thread.setDaemon (true);
+        return thread;
     }
 
 
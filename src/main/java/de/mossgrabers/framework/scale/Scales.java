@@ -6,6 +6,7 @@ package de.mossgrabers.framework.scale;
 
 import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Collections;
@@ -130,6 +131,19 @@ public class Scales {
 
     private final IValueChanger valueChanger;
 
+    // Changes with each modification which affects the note matrices or the scale
+    private int version = 0;
+    private int maskVersion = -1;
+    private int scaleMask;
+    private int noteMatricesVersion = -1;
+    private final Map<int[], int[]> noteMatrices = new IdentityHashMap<>();
+    private int drumMatrixVersion = -1;
+    private int[] drumMatrixCache;
+    private int sequencerMatrixVersion = -1;
+    private int sequencerMatrixLength = -1;
+    private int sequencerMatrixOffset;
+    private int[] sequencerMatrixCache;
+
     /**
      * Constructor.
      *
@@ -171,15 +185,31 @@ public class Scales {
     }
 
     /**
-     * Inject the current list of custom scales. The list is copied defensively.
+     * Inject the current list of custom scales. The list is copied defensively. A selected custom
+     * scale is looked up by its name in the new list, if it is no longer present the built-in scale
+     * is used.
      *
      * @param customScales The custom scales to use, or {@code null} for none
      */
     public void setCustomScales(final List<CustomScale> customScales) {
+        this.version++;
         if (customScales == null || customScales.isEmpty())
             this.customScales = Collections.emptyList();
         else
             this.customScales = List.copyOf(customScales);
+
+        if (this.selectedCustomScale == null)
+            return;
+        final String selectedName = this.selectedCustomScale.getName();
+        this.selectedCustomScale = null;
+        if (selectedName == null)
+            return;
+        for (final CustomScale scale : this.customScales) {
+            if (scale != null && selectedName.equals(scale.getName())) {
+                this.selectedCustomScale = scale;
+                return;
+            }
+        }
     }
 
     /**
@@ -230,6 +260,7 @@ public class Scales {
      * @param scale The scale to set
      */
     public void setScale(final Scale scale) {
+        this.version++;
         this.selectedScale = scale;
         this.selectedCustomScale = null;
     }
@@ -240,6 +271,7 @@ public class Scales {
      * @param scaleName The name of the scale to set
      */
     public void setScaleByName(final String scaleName) {
+        this.version++;
         this.selectedCustomScale = null;
 
         if (scaleName == null) {
@@ -326,6 +358,7 @@ public class Scales {
      * @param control The control value
      */
     public void changeScale(final int control) {
+        this.version++;
         final Scale[] values = Scale.values();
         final int index = this.valueChanger.changeValue(control, this.selectedScale.ordinal(), -100, values.length);
         this.selectedScale = values[index];
@@ -354,6 +387,7 @@ public class Scales {
      * Select the previous scale.
      */
     public void prevScale() {
+        this.version++;
         final Scale[] values = Scale.values();
         this.selectedScale = values[Math.max(0, this.selectedScale.ordinal() - 1)];
         this.selectedCustomScale = null;
@@ -363,6 +397,7 @@ public class Scales {
      * Select the next scale.
      */
     public void nextScale() {
+        this.version++;
         final Scale[] values = Scale.values();
         this.selectedScale = values[Math.min(values.length - 1, this.selectedScale.ordinal() + 1)];
         this.selectedCustomScale = null;
@@ -424,6 +459,7 @@ public class Scales {
      * @param scaleOffsetIndex The index of the offset
      */
     public void setScaleOffsetByIndex(final int scaleOffsetIndex) {
+        this.version++;
         this.scaleOffset = Math.max(0, Math.min(scaleOffsetIndex, Scales.OFFSETS.length - 1));
     }
 
@@ -433,6 +469,7 @@ public class Scales {
      * @param scaleOffsetName The offsets name (e.g. 'G')
      */
     public void setScaleOffsetByName(final String scaleOffsetName) {
+        this.version++;
         final int index = Scales.BASES.indexOf(scaleOffsetName);
         if (index >= 0)
             this.scaleOffset = index;
@@ -453,6 +490,7 @@ public class Scales {
      * @param scaleLayout The scale layout
      */
     public void setScaleLayout(final ScaleLayout scaleLayout) {
+        this.version++;
         this.scaleLayout = scaleLayout;
         this.orientation = this.scaleLayout.ordinal() % 2 == 0 ? Orientation.ORIENT_UP : Orientation.ORIENT_RIGHT;
         switch (this.scaleLayout) {
@@ -520,6 +558,7 @@ public class Scales {
      * Select the previous scale layout.
      */
     public void prevScaleLayout() {
+        this.version++;
         final ScaleLayout[] values = ScaleLayout.values();
         this.scaleLayout = values[Math.max(0, this.scaleLayout.ordinal() - 1)];
     }
@@ -528,6 +567,7 @@ public class Scales {
      * Select the next scale layout.
      */
     public void nextScaleLayout() {
+        this.version++;
         final ScaleLayout[] values = ScaleLayout.values();
         this.scaleLayout = values[Math.min(values.length - 1, this.scaleLayout.ordinal() + 1)];
     }
@@ -538,6 +578,7 @@ public class Scales {
      * @param enable True to enable
      */
     public void setChromatic(final boolean enable) {
+        this.version++;
         this.chromaticOn = enable;
     }
 
@@ -545,6 +586,7 @@ public class Scales {
      * Toggle the chromatic setting.
      */
     public void toggleChromatic() {
+        this.version++;
         this.chromaticOn = !this.chromaticOn;
     }
 
@@ -563,6 +605,7 @@ public class Scales {
      * @param octave The octave
      */
     public void setOctave(final int octave) {
+        this.version++;
         this.octave = Math.max(-Scales.OCTAVE_RANGE, Math.min(octave, Scales.OCTAVE_RANGE));
     }
 
@@ -643,6 +686,7 @@ public class Scales {
      * Resets the octave offset for the drum layout.
      */
     public void resetDrumOctave() {
+        this.version++;
         this.drumOffset = this.drumNoteStart;
     }
 
@@ -652,6 +696,7 @@ public class Scales {
      * @param offset The offset by which to increase the drum offset
      */
     public void incDrumOffset(final int offset) {
+        this.version++;
         this.drumOffset = Math.min(DRUM_NOTE_UPPER, this.drumOffset + offset);
     }
 
@@ -661,6 +706,7 @@ public class Scales {
      * @param offset The offset by which to decrease the drum offset
      */
     public void decDrumOffset(final int offset) {
+        this.version++;
         this.drumOffset = Math.max(DRUM_NOTE_LOWER, this.drumOffset - offset);
     }
 
@@ -688,6 +734,7 @@ public class Scales {
      * @param octave The octave offset
      */
     public void setPianoOctave(final int octave) {
+        this.version++;
         this.pianoOctave = Math.max(-Scales.PIANO_OCTAVE_RANGE, Math.min(octave, Scales.PIANO_OCTAVE_RANGE));
     }
 
@@ -766,7 +813,8 @@ public class Scales {
             return Scales.SCALE_COLOR_OCTAVE;
         if (!this.isChromatic())
             return Scales.SCALE_COLOR_NOTE;
-        return this.isInScale(noteInOctave) ? Scales.SCALE_COLOR_NOTE : Scales.SCALE_COLOR_OUT_OF_SCALE;
+        return (this.getScaleMask() & 1 << noteInOctave) != 0 ? Scales.SCALE_COLOR_NOTE
+                : Scales.SCALE_COLOR_OUT_OF_SCALE;
     }
 
     /**
@@ -789,12 +837,40 @@ public class Scales {
      * @return True if it is part of the scale
      */
     public boolean isInScale(final int noteInOctave) {
-        final int[] intervals = this.getActiveIntervals();
-        for (final int interval : intervals) {
-            if (interval == noteInOctave)
-                return true;
+        return noteInOctave >= 0 && noteInOctave < 12 && (this.getScaleMask() & 1 << noteInOctave) != 0;
+    }
+
+    /**
+     * Get the notes of the selected scale as a bit mask. Bit n is set if the note
+     * n semitones above
+     * the base note is part of the scale, bit 0 is therefore always the base note.
+     *
+     * @return The 12-bit mask
+     */
+    public int getScaleMask() {
+        if (this.maskVersion != this.version) {
+            int mask = 0;
+            for (final int interval : this.getActiveIntervals()) {
+                if (interval >= 0 && interval < 12)
+                    mask |= 1 << interval;
+            }
+            this.scaleMask = mask;
+            this.maskVersion = this.version;
         }
-        return false;
+        return this.scaleMask;
+    }
+
+    /**
+     * Get the version of the scale settings. It changes whenever the scale, base
+     * note, layout,
+     * orientation, octaves or the drum settings are modified. Can be used to check
+     * if a note
+     * mapping needs to be updated.
+     *
+     * @return The version
+     */
+    public int getVersion() {
+        return this.version;
     }
 
     /**
@@ -898,13 +974,23 @@ public class Scales {
      * @return The matrix
      */
     public int[] getNoteMatrix(final int[] matrix) {
-        final int[] noteMap = Scales.getEmptyMatrix();
-        for (int note = this.startNote; note < this.endNote; note++) {
-            final int n = matrix[note - this.startNote] + Scales.OFFSETS[this.scaleOffset] + this.startNote
-                    + this.octave * 12;
-            noteMap[note] = n < 0 || n > 127 ? -1 : n;
+        if (this.noteMatricesVersion != this.version) {
+            this.noteMatrices.clear();
+            this.noteMatricesVersion = this.version;
         }
-        return noteMap;
+
+        int[] noteMap = this.noteMatrices.get(matrix);
+        if (noteMap == null) {
+            noteMap = Scales.getEmptyMatrix();
+            for (int note = this.startNote; note < this.endNote; note++) {
+                final int n = matrix[note - this.startNote] + Scales.OFFSETS[this.scaleOffset] + this.startNote
+                        + this.octave * 12;
+                noteMap[note] = n < 0 || n > 127 ? -1 : n;
+            }
+            this.noteMatrices.put(matrix, noteMap);
+        }
+        // The caller may modify the result
+        return noteMap.clone();
     }
 
     /**
@@ -915,6 +1001,17 @@ public class Scales {
      * @return The matrix
      */
     public int[] getSequencerMatrix(final int length, final int noteOffset) {
+        if (this.sequencerMatrixVersion != this.version || this.sequencerMatrixLength != length
+                || this.sequencerMatrixOffset != noteOffset) {
+            this.sequencerMatrixCache = this.createSequencerMatrix(length, noteOffset);
+            this.sequencerMatrixVersion = this.version;
+            this.sequencerMatrixLength = length;
+            this.sequencerMatrixOffset = noteOffset;
+        }
+        return this.sequencerMatrixCache.clone();
+    }
+
+    private int[] createSequencerMatrix(final int length, final int noteOffset) {
         final int[] noteMap = new int[length];
         if (this.isChromatic()) {
             for (int note = 0; note < length; note++)
@@ -1005,13 +1102,17 @@ public class Scales {
      * @return The drum matrix
      */
     public int[] getDrumMatrix() {
-        final int[] noteMap = Scales.getEmptyMatrix();
-        for (int note = this.drumNoteStart; note < this.drumNoteEnd; note++) {
-            final int ns = this.drumMatrix[note - this.drumNoteStart];
-            final int n = ns == -1 ? -1 : ns + this.drumOffset;
-            noteMap[note] = n < 0 || n > 127 ? -1 : n;
+        if (this.drumMatrixVersion != this.version) {
+            final int[] noteMap = Scales.getEmptyMatrix();
+            for (int note = this.drumNoteStart; note < this.drumNoteEnd; note++) {
+                final int ns = this.drumMatrix[note - this.drumNoteStart];
+                final int n = ns == -1 ? -1 : ns + this.drumOffset;
+                noteMap[note] = n < 0 || n > 127 ? -1 : n;
+            }
+            this.drumMatrixCache = noteMap;
+            this.drumMatrixVersion = this.version;
         }
-        return noteMap;
+        return this.drumMatrixCache.clone();
     }
 
     /**
@@ -1020,6 +1121,7 @@ public class Scales {
      * @param matrix The new drum matrix
      */
     public void setDrumMatrix(final int[] matrix) {
+        this.version++;
         this.drumMatrix = matrix;
     }
 
@@ -1029,6 +1131,7 @@ public class Scales {
      * @param drumNoteStart The first drum note
      */
     public void setDrumNoteStart(final int drumNoteStart) {
+        this.version++;
         this.drumNoteStart = drumNoteStart;
     }
 
@@ -1038,6 +1141,7 @@ public class Scales {
      * @param drumNoteEnd The last drum note
      */
     public void setDrumNoteEnd(final int drumNoteEnd) {
+        this.version++;
         this.drumNoteEnd = drumNoteEnd;
     }
 
@@ -1167,6 +1271,7 @@ public class Scales {
      * Generate all matrices for all scales.
      */
     private void generateMatrices() {
+        this.version++;
         this.scaleGrids.clear();
         this.chordGrids.clear();
         for (final Scale scale : Scale.values()) {
@@ -1191,6 +1296,7 @@ public class Scales {
      * @param startNote The first MIDI note of the pad grid
      */
     public void setStartNote(final int startNote) {
+        this.version++;
         this.startNote = startNote;
     }
 
@@ -1209,6 +1315,7 @@ public class Scales {
      * @param endNote The last MIDI note of the pad grid
      */
     public void setEndNote(final int endNote) {
+        this.version++;
         this.endNote = endNote;
     }
 
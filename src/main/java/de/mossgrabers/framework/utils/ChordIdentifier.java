@@ -11,237 +11,182 @@ import de.mossgrabers.framework.scale.Scales;
 
 
 /**
- * Identifies the names of chords from a list of notes.
+ * Identifies the names of chords from a list of notes. The notes are reduced to a set of pitch
+ * classes (a 12-bit mask) which is looked up in a pre-calculated table of all 4096 possible sets.
+ * If the lowest note is not the root of the chord the name is extended by it as a slash chord
+ * (e.g. "C Major/E").
  *
  * @author Jürgen Moßgraber
  */
 public class ChordIdentifier
 {
-    private static final Chord [] CHORDS = new Chord []
+    private static final String []  ROOT_NAMES  =
     {
-        new Chord ("C Major", 0, 4, 7),
-        new Chord ("C# Major", 1, 5, 8),
-        new Chord ("D Major", 2, 6, 9),
-        new Chord ("D# Major", 3, 7, 10),
-        new Chord ("E Major", 4, 8, 11),
-        new Chord ("F Major", 0, 5, 9),
-        new Chord ("F# Major", 1, 6, 10),
-        new Chord ("G Major", 2, 7, 11),
-        new Chord ("G# Major", 0, 3, 8),
-        new Chord ("A Major", 1, 4, 9),
-        new Chord ("A# Major", 2, 5, 10),
-        new Chord (" B Major", 3, 6, 11),
-
-        new Chord ("C Minor", 0, 3, 7),
-        new Chord ("C# Minor", 1, 4, 8),
-        new Chord ("D Minor", 2, 5, 9),
-        new Chord ("D# Minor", 3, 6, 10),
-        new Chord ("E Minor", 4, 7, 11),
-        new Chord ("F Minor", 0, 5, 8),
-        new Chord ("F# Minor", 1, 6, 9),
-        new Chord ("G Minor", 2, 7, 10),
-        new Chord ("G# Minor", 3, 8, 11),
-        new Chord ("A Minor", 0, 4, 9),
-        new Chord ("A# Minor", 1, 5, 10),
-        new Chord ("B Minor", 2, 6, 11),
-
-        new Chord ("C Diminished", 0, 3, 6),
-        new Chord ("C# Diminished", 1, 4, 7),
-        new Chord ("D Diminished", 2, 5, 8),
-        new Chord ("D# Diminished", 3, 6, 9),
-        new Chord ("E Diminished", 4, 7, 10),
-        new Chord ("F Diminished", 5, 8, 11),
-        new Chord ("F# Diminished", 0, 6, 9),
-        new Chord ("G Diminished", 1, 7, 10),
-        new Chord ("G# Diminished", 2, 8, 11),
-        new Chord ("A Diminished", 0, 3, 9),
-        new Chord ("A# Diminished", 1, 4, 10),
-        new Chord ("B Diminished", 2, 5, 11),
-
-        new Chord ("C Augmented", 0, 4, 8),
-        new Chord ("C# Augmented", 1, 5, 9),
-        new Chord ("D Augmented", 2, 6, 10),
-        new Chord ("D# Augmented", 3, 7, 11),
-        new Chord ("E Augmented", 0, 4, 8),
-        new Chord ("F Augmented", 1, 5, 9),
-        new Chord ("F# Augmented", 2, 6, 10),
-        new Chord ("G Augmented", 3, 7, 11),
-        new Chord ("G# Augmented", 0, 4, 8),
-        new Chord ("A Augmented", 1, 5, 9),
-        new Chord ("A# Augmented", 2, 6, 10),
-        new Chord ("B Augmented", 3, 7, 11),
-
-        new Chord ("C Major 7th", 0, 4, 7, 11),
-        new Chord ("C# Major 7th", 0, 1, 5, 8),
-        new Chord ("D Major 7th", 1, 2, 6, 9),
-        new Chord ("D# Major 7th", 2, 3, 7, 10),
-        new Chord ("E Major 7th", 3, 4, 8, 11),
-        new Chord ("F Major 7th", 0, 4, 5, 9),
-        new Chord ("F# Major 7th", 1, 5, 6, 10),
-        new Chord ("G Major 7th", 2, 6, 7, 11),
-        new Chord ("G# Major 7th", 0, 3, 7, 8),
-        new Chord ("A Major 7th", 1, 4, 8, 9),
-        new Chord ("A# Major 7th", 2, 5, 9, 10),
-        new Chord ("B Major 7th", 3, 6, 10, 11),
-
-        new Chord ("C Minor 7th", 0, 3, 7, 10),
-        new Chord ("C# Minor 7th", 1, 4, 8, 11),
-        new Chord ("D Minor 7th", 0, 2, 5, 9),
-        new Chord ("D# Minor 7th", 1, 3, 6, 10),
-        new Chord ("E Minor 7th", 2, 4, 7, 11),
-        new Chord ("F Minor 7th", 0, 3, 5, 8),
-        new Chord ("F# Minor 7th", 1, 4, 6, 9),
-        new Chord ("G Minor 7th", 2, 5, 7, 10),
-        new Chord ("G# Minor 7th", 3, 6, 8, 11),
-        new Chord ("A Minor 7th", 0, 4, 7, 9),
-        new Chord ("A# Minor 7th", 1, 5, 8, 10),
-        new Chord ("B Minor 7th", 2, 6, 9, 11),
-
-        new Chord ("C Dominant 7th", 0, 4, 7, 10),
-        new Chord ("C# Dominant 7th", 1, 5, 8, 11),
-        new Chord ("D Dominant 7th", 0, 2, 6, 9),
-        new Chord ("D# Dominant 7th", 1, 3, 7, 10),
-        new Chord ("E Dominant 7th", 2, 4, 8, 11),
-        new Chord ("F Dominant 7th", 0, 3, 5, 9),
-        new Chord ("F# Dominant 7th", 1, 4, 6, 10),
-        new Chord ("G Dominant 7th", 2, 5, 7, 11),
-        new Chord ("G# Dominant 7th", 0, 3, 6, 8),
-        new Chord ("A Dominant 7th", 1, 4, 7, 9),
-        new Chord ("A# Dominant 7th", 2, 5, 8, 10),
-        new Chord ("B Dominant 7th", 3, 6, 9, 11),
-
-        new Chord ("C Sus2", 0, 2, 7),
-        new Chord ("C# Sus2", 1, 3, 8),
-        new Chord ("D Sus2", 2, 4, 9),
-        new Chord ("D# Sus2", 3, 5, 10),
-        new Chord ("E Sus2", 4, 6, 11),
-        new Chord ("F Sus2", 0, 5, 7),
-        new Chord ("F# Sus2", 1, 6, 8),
-        new Chord ("G Sus2", 2, 7, 9),
-        new Chord ("G# Sus2", 3, 8, 10),
-        new Chord ("A Sus2", 4, 9, 11),
-        new Chord ("A# Sus2", 0, 5, 10),
-        new Chord ("B Sus2", 1, 6, 11),
-
-        new Chord ("C Sus4", 0, 5, 7),
-        new Chord ("C# Sus4", 1, 6, 8),
-        new Chord ("D Sus4", 2, 7, 9),
-        new Chord ("D# Sus4", 3, 8, 10),
-        new Chord ("E Sus4", 4, 9, 11),
-        new Chord ("F Sus4", 0, 5, 10),
-        new Chord ("F# Sus4", 1, 6, 11),
-        new Chord ("G Sus4", 0, 2, 7),
-        new Chord ("G# Sus4", 1, 3, 8),
-        new Chord ("A Sus4", 2, 4, 9),
-        new Chord ("A# Sus4", 3, 5, 10),
-        new Chord ("B Sus4", 4, 6, 11),
-
-        new Chord ("C Major Add6", 0, 4, 7, 9),
-        new Chord ("C# Major Add6", 1, 5, 8, 10),
-        new Chord ("D Major Add6", 2, 6, 9, 11),
-        new Chord ("D# Major Add6", 0, 3, 7, 10),
-        new Chord ("E Major Add6", 1, 4, 8, 11),
-        new Chord ("F Major Add6", 0, 2, 5, 9),
-        new Chord ("F# Major Add6", 1, 3, 6, 10),
-        new Chord ("G Major Add6", 2, 4, 7, 11),
-        new Chord ("G# Major Add6", 0, 3, 5, 8),
-        new Chord ("A Major Add6", 1, 4, 6, 9),
-        new Chord ("A# Major Add6", 2, 5, 7, 10),
-        new Chord ("B Major Add6", 3, 6, 8, 11),
-
-        new Chord ("C Minor Add6", 0, 3, 7, 9),
-        new Chord ("C# Minor Add6", 1, 4, 8, 10),
-        new Chord ("D Minor Add6", 2, 5, 9, 11),
-        new Chord ("D# Minor Add6", 0, 3, 6, 10),
-        new Chord ("E Minor Add6", 1, 4, 7, 11),
-        new Chord ("F Minor Add6", 0, 2, 5, 8),
-        new Chord ("F# Minor Add6", 1, 3, 6, 9),
-        new Chord ("G Minor Add6", 2, 4, 7, 10),
-        new Chord ("G# Minor Add6", 3, 5, 8, 11),
-        new Chord ("A Minor Add6", 0, 4, 6, 9),
-        new Chord ("A# Minor Add6", 1, 5, 7, 10),
-        new Chord ("B Minor Add6", 2, 6, 8, 11),
-
-        new Chord ("C Major Add9", 0, 2, 4, 7),
-        new Chord ("C# Major Add9", 1, 3, 5, 8),
-        new Chord ("D Major Add9", 2, 4, 6, 9),
-        new Chord ("D# Major Add9", 3, 5, 7, 10),
-        new Chord ("E Major Add9", 4, 6, 8, 11),
-        new Chord ("F Major Add9", 0, 5, 7, 9),
-        new Chord ("F# Major Add9", 1, 6, 8, 10),
-        new Chord ("G Major Add9", 2, 7, 9, 11),
-        new Chord ("G# Major Add9", 0, 3, 8, 10),
-        new Chord ("A Major Add9", 1, 4, 9, 11),
-        new Chord ("A# Major Add9", 0, 2, 5, 10),
-        new Chord ("B Major Add9", 1, 3, 6, 11),
-
-        new Chord ("C Minor Add9", 0, 2, 3, 7),
-        new Chord ("C# Minor Add9", 1, 3, 4, 8),
-        new Chord ("D Minor Add9", 2, 4, 5, 9),
-        new Chord ("D# Minor Add9", 3, 5, 6, 10),
-        new Chord ("E Minor Add9", 4, 6, 7, 11),
-        new Chord ("F Minor Add9", 0, 5, 7, 8),
-        new Chord ("F# Minor Add9", 1, 6, 8, 9),
-        new Chord ("G Minor Add9", 2, 7, 9, 10),
-        new Chord ("G# Minor Add9", 3, 8, 10, 11),
-        new Chord ("A Minor Add9", 0, 4, 9, 11),
-        new Chord ("A# Minor Add9", 0, 1, 5, 10),
-        new Chord ("B Minor Add9", 1, 2, 6, 11),
-
-        new Chord ("C Major Add11", 0, 4, 5, 7),
-        new Chord ("C# Major Add11", 1, 5, 6, 8),
-        new Chord ("D Major Add11", 2, 6, 7, 9),
-        new Chord ("D# Major Add11", 3, 7, 8, 10),
-        new Chord ("E Major Add11", 4, 8, 9, 11),
-        new Chord ("F Major Add11", 0, 5, 9, 10),
-        new Chord ("F# Major Add11", 1, 6, 10, 11),
-        new Chord ("G Major Add11", 0, 2, 7, 11),
-        new Chord ("G# Major Add11", 0, 1, 3, 8),
-        new Chord ("A Major Add11", 1, 2, 4, 9),
-        new Chord ("A# Major Add11", 2, 3, 5, 10),
-        new Chord ("B Major Add11", 3, 4, 6, 11),
-
-        new Chord ("C Minor Add11", 0, 3, 5, 7),
-        new Chord ("C# Minor Add11", 1, 4, 6, 8),
-        new Chord ("D Minor Add11", 2, 5, 7, 9),
-        new Chord ("D# Minor Add11", 3, 6, 8, 10),
-        new Chord ("E Minor Add11", 4, 7, 9, 11),
-        new Chord ("F Minor Add11", 0, 5, 8, 10),
-        new Chord ("F# Minor Add11", 1, 6, 9, 11),
-        new Chord ("G Minor Add11", 0, 2, 7, 10),
-        new Chord ("G# Minor Add11", 1, 3, 8, 11),
-        new Chord ("A Minor Add11", 0, 2, 4, 9),
-        new Chord ("A# Minor Add11", 1, 3, 5, 10),
-        new Chord ("B Minor Add11", 2, 4, 6, 11)
+        "C",
+        "C#",
+        "D",
+        "D#",
+        "E",
+        "F",
+        "F#",
+        "G",
+        "G#",
+        "A",
+        "A#",
+        "B"
     };
 
+    /**
+     * The chord qualities as intervals from the root. If a pitch class set matches several chords
+     * the one with the bass note as its root wins (e.g. C-E-G-A over C is C Major Add6 and not A
+     * Minor 7th). Otherwise the first one in this list wins, therefore keep the simpler chords at
+     * the beginning.
+     */
+    private static final Quality [] QUALITIES   =
+    {
+        new Quality ("Major", 0, 4, 7),
+        new Quality ("Minor", 0, 3, 7),
+        new Quality ("Diminished", 0, 3, 6),
+        new Quality ("Augmented", 0, 4, 8),
+        new Quality ("Major 7th", 0, 4, 7, 11),
+        new Quality ("Minor 7th", 0, 3, 7, 10),
+        new Quality ("Dominant 7th", 0, 4, 7, 10),
+        new Quality ("Sus2", 0, 2, 7),
+        new Quality ("Sus4", 0, 5, 7),
+        new Quality ("Major Add6", 0, 4, 7, 9),
+        new Quality ("Minor Add6", 0, 3, 7, 9),
+        new Quality ("Major Add9", 0, 2, 4, 7),
+        new Quality ("Minor Add9", 0, 2, 3, 7),
+        new Quality ("Major Add11", 0, 4, 5, 7),
+        new Quality ("Minor Add11", 0, 3, 5, 7),
+
+        new Quality ("Diminished 7th", 0, 3, 6, 9),
+        new Quality ("Half-Diminished 7th", 0, 3, 6, 10),
+        new Quality ("Minor Major 7th", 0, 3, 7, 11),
+        new Quality ("Augmented 7th", 0, 4, 8, 10),
+        new Quality ("Augmented Major 7th", 0, 4, 8, 11),
+        new Quality ("7th Sus4", 0, 5, 7, 10),
+        new Quality ("7th Sus2", 0, 2, 7, 10),
+
+        new Quality ("Major 9th", 0, 2, 4, 7, 11),
+        new Quality ("Minor 9th", 0, 2, 3, 7, 10),
+        new Quality ("Dominant 9th", 0, 2, 4, 7, 10),
+        new Quality ("Minor Major 9th", 0, 2, 3, 7, 11),
+        new Quality ("Major 6/9", 0, 2, 4, 7, 9),
+        new Quality ("Minor 6/9", 0, 2, 3, 7, 9),
+        new Quality ("Dominant 7th b9", 0, 1, 4, 7, 10),
+        new Quality ("Dominant 7th #9", 0, 3, 4, 7, 10),
+
+        new Quality ("Major 11th", 0, 2, 4, 5, 7, 11),
+        new Quality ("Minor 11th", 0, 2, 3, 5, 7, 10),
+        new Quality ("Dominant 11th", 0, 2, 4, 5, 7, 10),
+
+        new Quality ("Major 13th", 0, 2, 4, 7, 9, 11),
+        new Quality ("Minor 13th", 0, 2, 3, 7, 9, 10),
+        new Quality ("Dominant 13th", 0, 2, 4, 7, 9, 10)
+    };
+
+    /** Number of all possible pitch class sets. */
+    private static final int        NUM_SETS    = 4096;
+
+    /**
+     * Contains all matching chords of a pitch class set in the order of the qualities, null if
+     * there is none. The entries contain the index of the quality + 1 in the upper bits and the
+     * root (0-11).
+     */
+    private static final short [][] CHORD_TABLE = new short [NUM_SETS][];
+    private static final String []  CHORD_NAMES = new String [QUALITIES.length * 12];
+
+    static
+    {
+        for (int q = 0; q < QUALITIES.length; q++)
+        {
+            final int mask = QUALITIES[q].mask;
+            for (int root = 0; root < 12; root++)
+            {
+                CHORD_NAMES[q * 12 + root] = ROOT_NAMES[root] + " " + QUALITIES[q].name;
+
+                final int set = transpose (mask, root);
+                final short entry = (short) ((q + 1) << 4 | root);
+                final short [] candidates = CHORD_TABLE[set];
+                if (candidates == null)
+                    CHORD_TABLE[set] = new short []
+                    {
+                        entry
+                    };
+                else
+                {
+                    CHORD_TABLE[set] = Arrays.copyOf (candidates, candidates.length + 1);
+                    CHORD_TABLE[set][candidates.length] = entry;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Private due to utility class.
+     */
+    private ChordIdentifier ()
+    {
+        // Intentionally empty
+    }
+
 
     /**
      * Returns the name of the chord for the given notes.
      *
-     * @param notes The notes for which to identify the chord
-     * @return The name of the chord or null if the notes contains less than 3 notes or is not
-     *         known.
+     * @param notes The notes for which to identify the chord, negative values are ignored
+     * @return The name of the chord or the names of the notes if the chord is not known, null if
+     *         there is no note
      */
     public static String identifyChord (final List<Integer> notes)
     {
-        // Reduce notes to their pitch classes (0-11)
-        final int [] pitchClasses = notes.stream ().map (note -> Integer.valueOf (note.intValue () % 12)).distinct ().sorted ().mapToInt (Integer::intValue).filter (num -> num != -1).toArray ();
-        if (pitchClasses.length >= 3 || pitchClasses.length <= 4)
+        int pitchClasses = 0;
+        int lowestNote = Integer.MAX_VALUE;
+        for (int i = 0; i < notes.size (); i++)
         {
-            for (final Chord chord: CHORDS)
-            {
-                if (chord.doesMatch (pitchClasses))
-                    return chord.name;
-            }
+            final int note = notes.get (i).intValue ();
+            if (note < 0)
+                continue;
+            pitchClasses |= 1 << note % 12;
+            lowestNote = Math.min (lowestNote, note);
         }
+        return pitchClasses == 0 ? null : identifyChord (pitchClasses, lowestNote % 12);
+    }
 
-        if (pitchClasses.length == 0)
+
+    /**
+     * Returns the name of the chord for the given set of pitch classes.
+     *
+     * @param pitchClasses The pitch classes as a 12-bit mask, bit 0 is C
+     * @param bass The pitch class of the lowest note (0-11)
+     * @return The name of the chord or the names of the notes if the chord is not known, null if
+     *         there is no note
+     */
+    public static String identifyChord (final int pitchClasses, final int bass)
+    {
+        if (pitchClasses == 0)
             return null;
 
+        final int entry = lookup (pitchClasses, bass);
+        if (entry != 0)
+        {
+            final String name = CHORD_NAMES[((entry >> 4) - 1) * 12 + (entry & 0xF)];
+            return (entry & 0xF) == bass ? name : name + "/" + ROOT_NAMES[bass];
+        }
+
+        // Is it a known chord over a bass note which is not part of the chord?
+        final int upper = pitchClasses & ~(1 << bass) & NUM_SETS - 1;
+        final int upperEntry = lookup (upper, -1);
+        if (upperEntry != 0)
+            return CHORD_NAMES[((upperEntry >> 4) - 1) * 12 + (upperEntry & 0xF)] + "/" + ROOT_NAMES[bass];
+
         final StringBuilder sb = new StringBuilder ();
-        for (final int pitchClass: pitchClasses)
+        for (int pitchClass = 0; pitchClass < 12; pitchClass++)
         {
+            if ((pitchClasses & 1 << pitchClass) == 0)
+                continue;
             if (sb.length () > 0)
                 sb.append (", ");
             sb.append (Scales.NOTE_NAMES.get (pitchClass));
@@ -250,40 +195,102 @@ public class ChordIdentifier
     }
 
 
-    private static class Chord
+    /**
+     * Get the root of the chord which consists of the given set of pitch classes.
+     *
+     * @param pitchClasses The pitch classes as a 12-bit mask, bit 0 is C
+     * @return The root (0-11) or -1 if the set is not a known chord
+     */
+    public static int getRoot (final int pitchClasses)
     {
-        private final String name;
-        private final int [] notes;
+        return getRoot (pitchClasses, -1);
+    }
 
 
-        Chord (final String name, final int note1, final int note2, final int note3)
-        {
-            this.name = name;
-            this.notes = new int []
-            {
-                note1,
-                note2,
-                note3
-            };
-        }
+    /**
+     * Get the root of the chord which consists of the given set of pitch classes. If several chords
+     * match, the one which has the bass note as its root is preferred.
+     *
+     * @param pitchClasses The pitch classes as a 12-bit mask, bit 0 is C
+     * @param bass The pitch class of the lowest note (0-11)
+     * @return The root (0-11) or -1 if the set is not a known chord
+     */
+    public static int getRoot (final int pitchClasses, final int bass)
+    {
+        final int entry = lookup (pitchClasses, bass);
+        return entry == 0 ? -1 : entry & 0xF;
+    }
+
+
+    /**
+     * Get the inversion of the chord which consists of the given set of pitch classes.
+     *
+     * @param pitchClasses The pitch classes as a 12-bit mask, bit 0 is C
+     * @param bass The pitch class of the lowest note (0-11)
+     * @return 0 for the root position, 1 for the first inversion, and so on; -1 if the set is not
+     *         a known chord or the bass note is not part of it
+     */
+    public static int getInversion (final int pitchClasses, final int bass)
+    {
+        final int root = getRoot (pitchClasses, bass);
+        if (root < 0 || (pitchClasses & 1 << bass) == 0)
+            return -1;
+        // Count the chord notes between the root and the bass note
+        final int intervals = transpose (pitchClasses, 12 - root);
+        final int bassInterval = (bass - root + 12) % 12;
+        return Integer.bitCount (intervals & (1 << bassInterval) - 1);
+    }
 
 
-        Chord (final String name, final int note1, final int note2, final int note3, final int note4)
+    /**
+     * Look up the chord of a pitch class set. If several chords match, the one which has the bass
+     * note as its root is preferred, otherwise the first one.
+     *
+     * @param pitchClasses The pitch classes as a 12-bit mask, bit 0 is C
+     * @param bass The pitch class of the lowest note (0-11), -1 to ignore it
+     * @return The table entry or 0 if the set is not a known chord
+     */
+    private static int lookup (final int pitchClasses, final int bass)
+    {
+        final short [] candidates = CHORD_TABLE[pitchClasses & NUM_SETS - 1];
+        if (candidates == null)
+            return 0;
+        for (final short candidate: candidates)
         {
-            this.name = name;
-            this.notes = new int []
-            {
-                note1,
-                note2,
-                note3,
-                note4
-            };
+            if ((candidate & 0xF) == bass)
+                return candidate;
         }
+        return candidates[0];
+    }
 
 
-        public boolean doesMatch (final int [] pitchClasses)
+    /**
+     * Rotate a pitch class set by the given number of semitones.
+     *
+     * @param pitchClasses The pitch classes as a 12-bit mask
+     * @param semitones The number of semitones to transpose up (0-11)
+     * @return The transposed set
+     */
+    private static int transpose (final int pitchClasses, final int semitones)
+    {
+        final int s = semitones % 12;
+        return (pitchClasses << s | pitchClasses >>> 12 - s) & NUM_SETS - 1;
+    }
+
+
+    private static class Quality
+    {
+        private final String name;
+        private final int    mask;
+
+
+        Quality (final String name, final int... intervals)
         {
-            return pitchClasses.length == this.notes.length && Arrays.compare (this.notes, pitchClasses) == 0;
+            this.name = name;
+            int m = 0;
+            for (final int interval: intervals)
+                m |= 1 << interval;
+            this.mask = m;
         }
     }
 }
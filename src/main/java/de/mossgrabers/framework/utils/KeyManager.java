@@ -28,11 +28,19 @@ import de.mossgrabers.framework.scale.Scales;
  */
 public class KeyManager implements INoteObserver
 {
-    private final int []   pressedKeys = new int [128];
+    private final int []   pressedKeys    = new int [128];
     private final IModel   model;
     private final Scales   scales;
     private final IPadGrid padGrid;
-    private int []         noteMap     = Scales.getEmptyMatrix ();
+    private int []         noteMap        = Scales.getEmptyMatrix ();
+    private int            numPressedKeys = 0;
+    private String         chordName      = null;
+    private boolean        isChordDirty   = false;
+
+    // Inverse of the note map: the pads of MIDI note n are padsOfNotes[noteStarts[n] ..
+    // noteStarts[n + 1] - 1]
+    private final int []   noteStarts     = new int [129];
+    private final int []   padsOfNotes    = new int [128];
 
 
     /**
@@ -48,6 +56,7 @@ public class KeyManager implements INoteObserver
         this.scales = scales;
         this.padGrid = padGrid;
         Arrays.fill (this.pressedKeys, 0);
+        this.updateInverseNoteMap ();
     }
 
 
@@ -57,6 +66,8 @@ public class KeyManager implements INoteObserver
     public void clearPressedKeys ()
     {
         Arrays.fill (this.pressedKeys, 0);
+        this.numPressedKeys = 0;
+        this.isChordDirty = true;
     }
 
 
@@ -80,23 +91,61 @@ public class KeyManager implements INoteObserver
      */
     public void setKeyPressed (final int key, final int velocity)
     {
+        final boolean wasPressed = this.pressedKeys[key] != 0;
         this.pressedKeys[key] = velocity;
+        if (wasPressed != (velocity != 0))
+        {
+            this.numPressedKeys += wasPressed ? -1 : 1;
+            this.isChordDirty = true;
+        }
     }
 
 
     /**
-     * Loop over all pads since the note can be present multiple time.
+     * Set the pressed state of all pads to which the note is mapped, since the note can be present
+     * multiple times (e.g. in a guitar layout).
      *
      * @param key The key to set (this is a MIDI note)
      * @param velocity The velocity
      */
     public void setAllKeysPressed (final int key, final int velocity)
     {
-        for (int i = 0; i < 128; i++)
+        if (key < 0 || key > 127)
+            return;
+        for (int i = this.noteStarts[key]; i < this.noteStarts[key + 1]; i++)
+            this.setKeyPressed (this.padsOfNotes[i], velocity);
+    }
+
+
+    /**
+     * Returns true if at least one of the pads to which the given MIDI note is mapped is currently
+     * pressed.
+     *
+     * @param note The MIDI note
+     * @return True if pressed
+     */
+    public boolean isNotePressed (final int note)
+    {
+        if (note < 0 || note > 127)
+            return false;
+        for (int i = this.noteStarts[note]; i < this.noteStarts[note + 1]; i++)
         {
-            if (this.noteMap[i] == key)
-                this.setKeyPressed (i, velocity);
+            if (this.pressedKeys[this.padsOfNotes[i]] > 0)
+                return true;
         }
+        return false;
+    }
+
+
+    /**
+     * Get the number of pads to which the given MIDI note is mapped.
+     *
+     * @param note The MIDI note
+     * @return The number of pads
+     */
+    public int getNumberOfPads (final int note)
+    {
+        return note < 0 || note > 127 ? 0 : this.noteStarts[note + 1] - this.noteStarts[note];
     }
 
 
@@ -134,12 +183,36 @@ public class KeyManager implements INoteObserver
      */
     public boolean hasPressedKeys ()
     {
-        for (int i = 0; i < 128; i++)
+        return this.numPressedKeys > 0;
+    }
+
+
+    /**
+     * Get the name of the chord which is played with the currently pressed keys. The result is
+     * cached until the pressed keys or the note map change.
+     *
+     * @return The name of the chord or the names of the notes if the chord is not known, null if
+     *         no key is pressed
+     */
+    public String getChordName ()
+    {
+        if (!this.isChordDirty)
+            return this.chordName;
+        this.isChordDirty = false;
+
+        int pitchClasses = 0;
+        int lowestNote = 128;
+        final int length = Math.min (this.noteMap.length, this.pressedKeys.length);
+        for (int i = 0; i < length; i++)
         {
-            if (this.pressedKeys[i] != 0)
-                return true;
+            final int note = this.noteMap[i];
+            if (this.pressedKeys[i] == 0 || note < 0)
+                continue;
+            pitchClasses |= 1 << note % 12;
+            lowestNote = Math.min (lowestNote, note);
         }
-        return false;
+        this.chordName = pitchClasses == 0 ? null : ChordIdentifier.identifyChord (pitchClasses, lowestNote % 12);
+        return this.chordName;
     }
 
 
@@ -203,6 +276,36 @@ public class KeyManager implements INoteObserver
     public void setNoteMatrix (final int [] matrix)
     {
         this.noteMap = matrix;
+        this.updateInverseNoteMap ();
+        this.isChordDirty = true;
+    }
+
+
+    /**
+     * Rebuild the index from MIDI notes to pads from the note map.
+     */
+    private void updateInverseNoteMap ()
+    {
+        final int length = Math.min (this.noteMap.length, this.padsOfNotes.length);
+
+        // Count the pads of each note, then turn the counts into start positions
+        Arrays.fill (this.noteStarts, 0);
+        for (int pad = 0; pad < length; pad++)
+        {
+            final int note = this.noteMap[pad];
+            if (note >= 0 && note < 128)
+                this.noteStarts[note + 1]++;
+        }
+        for (int note = 0; note < 128; note++)
+            this.noteStarts[note + 1] += this.noteStarts[note];
+
+        final int [] positions = Arrays.copyOf (this.noteStarts, 128);
+        for (int pad = 0; pad < length; pad++)
+        {
+            final int note = this.noteMap[pad];
+            if (note >= 0 && note < 128)
+                this.padsOfNotes[positions[note]++] = pad;
+        }
     }
 
 
@@ -6,26 +6,40 @@ package de.mossgrabers.framework.utils;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 
 /**
- * Executes only one task. When new tasks arrive for execution only the latest one will be stored
- * for execution.
+ * Executes only the latest task of a key. When new tasks arrive for a key before the previous one
+ * was started, only the latest one will be stored for execution, the older one is dropped. Tasks
+ * of the same key are executed one after the other in the order they were submitted, tasks of
+ * different keys might run in parallel.
+ *
+ * The tasks are executed on virtual threads, which are only started while there are tasks to
+ * execute. Therefore, an idle executor does not block an operating system thread.
  *
  * @author Jürgen Moßgraber
  */
 public class LatestTaskExecutor implements ExecutorService
 {
-    private final AtomicReference<Runnable> lastTask = new AtomicReference<> ();
-    private final ExecutorService           executor;
+    private static final Object     DEFAULT_KEY   = new Object ();
+
+    private final Map<Object, Slot> slots         = new ConcurrentHashMap<> ();
+    private final ExecutorService   executor;
+    private final LongAdder         executedTasks = new LongAdder ();
+    private final LongAdder         droppedTasks  = new LongAdder ();
 
 
     /**
@@ -33,7 +47,18 @@ public class LatestTaskExecutor implements ExecutorService
      */
     public LatestTaskExecutor ()
     {
-        this.executor = Executors.newSingleThreadExecutor ();
+        this ("LatestTaskExecutor");
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param name The name for the virtual threads, useful for debugging
+     */
+    public LatestTaskExecutor (final String name)
+    {
+        this.executor = Executors.newThreadPerTaskExecutor (Thread.ofVirtual ().name (name + "-", 0).factory ());
     }
 
 
@@ -41,12 +66,98 @@ public class LatestTaskExecutor implements ExecutorService
     @Override
     public void execute (final Runnable command)
     {
-        this.lastTask.set (command);
-        this.executor.execute ( () -> {
-            final Runnable task = this.lastTask.getAndSet (null);
-            if (task != null)
+        this.execute (DEFAULT_KEY, command);
+    }
+
+
+    /**
+     * Execute the given task. If there is already a task waiting for execution with the same key,
+     * that one is dropped.
+     *
+     * @param key The key which identifies the tasks which replace each other, e.g. a display row
+     * @param command The task to execute
+     * @throws RejectedExecutionException If the executor is already shutdown
+     */
+    public void execute (final Object key, final Runnable command)
+    {
+        if (this.executor.isShutdown ())
+            throw new RejectedExecutionException ("Executor is shutdown.");
+
+        final Slot slot = this.slots.computeIfAbsent (key, k -> new Slot ());
+        if (slot.pendingTask.getAndSet (command) != null)
+            this.droppedTasks.increment ();
+
+        // Only start a thread if there is no one already running for this key
+        if (!slot.isScheduled.compareAndSet (false, true))
+            return;
+        try
+        {
+            this.executor.execute ( () -> this.drain (slot));
+        }
+        catch (final RejectedExecutionException ex)
+        {
+            slot.isScheduled.set (false);
+            throw ex;
+        }
+    }
+
+
+    /**
+     * Get the number of tasks which were executed.
+     *
+     * @return The number of executed tasks
+     */
+    public long getExecutedTasks ()
+    {
+        return this.executedTasks.sum ();
+    }
+
+
+    /**
+     * Get the number of tasks which were replaced by a newer task before they could be executed.
+     *
+     * @return The number of dropped tasks
+     */
+    public long getDroppedTasks ()
+    {
+        return this.droppedTasks.sum ();
+    }
+
+
+    /**
+     * Execute the pending tasks of a slot until there is no more task. A failing task is logged and
+     * does not stop the execution of the following tasks of the key.
+     *
+     * @param slot The slot
+     */
+    private void drain (final Slot slot)
+    {
+        while (true)
+        {
+            final Runnable task = slot.pendingTask.getAndSet (null);
+            if (task == null)
+            {
+                slot.isScheduled.set (false);
+                // A task might have been added after the check but before the flag was reset
+                if (slot.pendingTask.get () == null || !slot.isScheduled.compareAndSet (false, true))
+                    return;
+                continue;
+            }
+
+            try
+            {
                 task.run ();
-        });
+            }
+            catch (final Throwable ex)
+            {
+                // Otherwise the slot would stay scheduled and never execute a task again
+                ConsoleLogger.log ("Task crashed: " + ex);
+            }
+            finally
+            {
+                this.executedTasks.increment ();
+            }
+        }
     }
 
 
@@ -144,4 +255,12 @@ public class LatestTaskExecutor implements ExecutorService
     {
         throw new LatestTaskException ();
     }
+
+
+    /** The task which waits for execution and whether a thread is executing the tasks of a key. */
+    private static class Slot
+    {
+        private final AtomicReference<Runnable> pendingTask = new AtomicReference<> ();
+        private final AtomicBoolean             isScheduled = new AtomicBoolean (false);
+    }
 }
\ No newline at end of file
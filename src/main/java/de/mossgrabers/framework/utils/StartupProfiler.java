@@ -0,0 +1,242 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * Measures the duration and the allocated memory of the startup phases of a controller. The
+ * result can be printed as a readable report and as a machine-readable (JSON) summary.
+ *
+ * Phases which are shared by all controllers of the same extension (e.g. parsing the device files)
+ * are executed only once. They are recorded statically and added to the reports of all controllers
+ * marked as shared.
+ *
+ * Profiling is off by default. It is enabled by starting the host with the system property
+ * "drivenbymoss.profileStartup" set to true. Allocations are only measured if the JVM has the
+ * thread allocation measurement already enabled.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class StartupProfiler
+{
+    /** The system property which enables the profiling. */
+    public static final String                           PROPERTY_ENABLED = "drivenbymoss.profileStartup";
+
+    private static final boolean                         IS_ENABLED       = Boolean.getBoolean (PROPERTY_ENABLED);
+    private static final List<Phase>                     SHARED_PHASES    = new ArrayList<> ();
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN  = IS_ENABLED ? getAllocationBean () : null;
+
+    private final String                                 name;
+    private final List<Phase>                            phases           = new ArrayList<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the controller
+     */
+    public StartupProfiler (final String name)
+    {
+        this.name = name;
+    }
+
+
+    /**
+     * Check if profiling is enabled. If not, the phases are only executed and not measured.
+     *
+     * @return True if enabled
+     */
+    public static boolean isEnabled ()
+    {
+        return IS_ENABLED;
+    }
+
+
+    /**
+     * Execute and measure a startup phase.
+     *
+     * @param phaseName The name of the phase
+     * @param phase The code of the phase
+     */
+    public void measure (final String phaseName, final Runnable phase)
+    {
+        this.phases.add (execute (phaseName, phase, false));
+    }
+
+
+    /**
+     * Execute and measure a startup phase which is shared by all controllers.
+     *
+     * @param phaseName The name of the phase
+     * @param phase The code of the phase
+     */
+    public static void measureShared (final String phaseName, final Runnable phase)
+    {
+        final Phase result = execute (phaseName, phase, true);
+        synchronized (SHARED_PHASES)
+        {
+            SHARED_PHASES.add (result);
+        }
+    }
+
+
+    /**
+     * Get all measured phases, the shared ones first.
+     *
+     * @return The phases
+     */
+    public List<Phase> getPhases ()
+    {
+        final List<Phase> result = new ArrayList<> ();
+        synchronized (SHARED_PHASES)
+        {
+            result.addAll (SHARED_PHASES);
+        }
+        result.addAll (this.phases);
+        return result;
+    }
+
+
+    /**
+     * Get the total duration of all phases of the controller (without the shared ones).
+     *
+     * @return The duration in nanoseconds
+     */
+    public long getTotalNanos ()
+    {
+        long total = 0;
+        for (final Phase phase: this.phases)
+            total += phase.nanos ();
+        return total;
+    }
+
+
+    /**
+     * Format a readable report with one line per phase.
+     *
+     * @return The report
+     */
+    public String formatReport ()
+    {
+        final StringBuilder sb = new StringBuilder ();
+        sb.append (this.name).append (" startup: ").append (formatMillis (this.getTotalNanos ())).append (" ms");
+        for (final Phase phase: this.getPhases ())
+        {
+            sb.append ("\n  ").append (phase.name ()).append (": ").append (formatMillis (phase.nanos ())).append (" ms");
+            if (phase.allocatedBytes () >= 0)
+                sb.append (", ").append (String.format (Locale.US, "%.1f", Double.valueOf (phase.allocatedBytes () / 1048576.0))).append (" MB");
+            if (phase.isShared ())
+                sb.append (" (shared)");
+        }
+        return sb.toString ();
+    }
+
+
+    /**
+     * Format the result as a JSON object. Durations are in microseconds, allocations in bytes (-1
+     * if not supported by the JVM).
+     *
+     * @return The JSON text
+     */
+    public String formatJson ()
+    {
+        final StringBuilder sb = new StringBuilder ("{\"controller\":\"");
+        appendEscaped (sb, this.name);
+        sb.append ("\",\"totalMicros\":").append (this.getTotalNanos () / 1000).append (",\"phases\":[");
+        final List<Phase> all = this.getPhases ();
+        for (int i = 0; i < all.size (); i++)
+        {
+            final Phase phase = all.get (i);
+            if (i > 0)
+                sb.append (',');
+            sb.append ("{\"name\":\"");
+            appendEscaped (sb, phase.name ());
+            sb.append ("\",\"micros\":").append (phase.nanos () / 1000);
+            sb.append (",\"allocatedBytes\":").append (phase.allocatedBytes ());
+            sb.append (",\"shared\":").append (phase.isShared ()).append ('}');
+        }
+        return sb.append ("]}").toString ();
+    }
+
+
+    private static Phase execute (final String phaseName, final Runnable phase, final boolean isShared)
+    {
+        if (!IS_ENABLED)
+        {
+            phase.run ();
+            return new Phase (phaseName, 0, -1, isShared);
+        }
+
+        final long allocatedBefore = getAllocatedBytes ();
+        final long start = System.nanoTime ();
+        phase.run ();
+        final long nanos = System.nanoTime () - start;
+        final long allocatedAfter = getAllocatedBytes ();
+        final long allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+        return new Phase (phaseName, nanos, allocated, isShared);
+    }
+
+
+    private static long getAllocatedBytes ()
+    {
+        return ALLOCATION_BEAN == null ? -1 : ALLOCATION_BEAN.getCurrentThreadAllocatedBytes ();
+    }
+
+
+    private static com.sun.management.ThreadMXBean getAllocationBean ()
+    {
+        try
+        {
+            // Do not enable the measurement, it would slow down all threads of the host
+            if (ManagementFactory.getThreadMXBean () instanceof final com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported () && bean.isThreadAllocatedMemoryEnabled ())
+                return bean;
+        }
+        catch (final RuntimeException | LinkageError ex)
+        {
+            // Not available (e.g. restricted by the host), only durations are measured
+        }
+        return null;
+    }
+
+
+    private static String formatMillis (final long nanos)
+    {
+        return String.format (Locale.US, "%.1f", Double.valueOf (nanos / 1000000.0));
+    }
+
+
+    private static void appendEscaped (final StringBuilder sb, final String text)
+    {
+        for (int i = 0; i < text.length (); i++)
+        {
+            final char c = text.charAt (i);
+            if (c == '"' || c == '\\')
+                sb.append ('\\').append (c);
+            else if (c < 0x20)
+                sb.append (String.format ("\\u%04x", Integer.valueOf (c)));
+            else
+                sb.append (c);
+        }
+    }
+
+
+    /**
+     * The result of a measured phase.
+     *
+     * @param name The name of the phase
+     * @param nanos The duration in nanoseconds
+     * @param allocatedBytes The memory allocated by the phase in bytes, -1 if not supported
+     * @param isShared True if the phase is shared by all controllers
+     */
+    public record Phase (String name, long nanos, long allocatedBytes, boolean isShared)
+    {
+        // Intentionally empty
+    }
+}
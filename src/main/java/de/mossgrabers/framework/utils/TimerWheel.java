@@ -0,0 +1,279 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+
+/**
+ * A hashed timer wheel which executes all timers of an extension on a single background thread.
+ * Timers are sorted into buckets by their tick (10ms), all timers which are due in the same tick
+ * are executed with one wake-up of the thread. The thread only wakes up when the next timer is due
+ * and sleeps while there is no timer at all.
+ *
+ * Note that the timers are executed on the background thread. Tasks which need to access the DAW
+ * (or MIDI) must still use IHost.scheduleTask. The tasks should be short since they delay all
+ * other timers.
+ *
+ * Therefore, the timers of long presses, virtual faders, the HUI ping and the Push color palette
+ * synchronization stay on IHost.scheduleTask, since they send MIDI or read the model. Blocking I/O
+ * (sending the Push display over USB, writing and watching the custom scales file) keeps its own
+ * thread.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class TimerWheel
+{
+    private static final long       TICK_NANOS  = 10_000_000L;
+    private static final int        WHEEL_SIZE  = 512;
+
+    private static TimerWheel       instance;
+
+    private final List<List<Timer>> buckets;
+    private final Object            lock        = new Object ();
+    private final long              startTime   = System.nanoTime ();
+    private long                    nextTick    = 0;
+    private long                    nextDueTick = Long.MAX_VALUE;
+    private int                     numTimers   = 0;
+    private Thread                  worker;
+
+
+    /**
+     * Get the timer wheel shared by all controllers of the extension.
+     *
+     * @return The timer wheel
+     */
+    public static synchronized TimerWheel getInstance ()
+    {
+        if (instance == null)
+            instance = new TimerWheel ();
+        return instance;
+    }
+
+
+    /**
+     * Constructor.
+     */
+    private TimerWheel ()
+    {
+        this.buckets = new ArrayList<> (WHEEL_SIZE);
+        for (int i = 0; i < WHEEL_SIZE; i++)
+            this.buckets.add (new ArrayList<> ());
+    }
+
+
+    /**
+     * Execute a task once after the given delay.
+     *
+     * @param task The task to execute
+     * @param delayMillis The delay in milliseconds
+     * @return The handle to cancel the timer
+     */
+    public Timer schedule (final Runnable task, final long delayMillis)
+    {
+        return this.scheduleAtFixedRate (task, delayMillis, 0);
+    }
+
+
+    /**
+     * Execute a task repeatedly.
+     *
+     * @param task The task to execute
+     * @param initialDelayMillis The delay in milliseconds before the first execution
+     * @param periodMillis The time in milliseconds between two executions, 0 to execute only once
+     * @return The handle to cancel the timer
+     */
+    public Timer scheduleAtFixedRate (final Runnable task, final long initialDelayMillis, final long periodMillis)
+    {
+        final Timer timer = new Timer (task, periodMillis * 1_000_000L);
+        timer.deadline = System.nanoTime () + initialDelayMillis * 1_000_000L;
+        synchronized (this.lock)
+        {
+            this.add (timer);
+            if (this.worker == null)
+            {
+                this.worker = new Thread (this::run, "Timer Wheel");
+                this.worker.setDaemon (true);
+                this.worker.start ();
+            }
+        }
+        return timer;
+    }
+
+
+    /**
+     * Add a timer to the bucket of its tick. Must be called while synchronized.
+     *
+     * @param timer The timer
+     */
+    private void add (final Timer timer)
+    {
+        // Round up to the next tick but never schedule into a tick which was already processed
+        timer.tick = Math.max (this.nextTick, (timer.deadline - this.startTime + TICK_NANOS - 1) / TICK_NANOS);
+        this.buckets.get ((int) (timer.tick % WHEEL_SIZE)).add (timer);
+        this.numTimers++;
+
+        // Wake up the worker if the new timer is due before the one it is waiting for
+        if (timer.tick < this.nextDueTick)
+        {
+            this.nextDueTick = timer.tick;
+            this.lock.notifyAll ();
+        }
+    }
+
+
+    private void run ()
+    {
+        final List<Timer> dueTimers = new ArrayList<> ();
+        try
+        {
+            while (true)
+            {
+                synchronized (this.lock)
+                {
+                    this.waitForDueTimers ();
+                    this.collectDueTimers (dueTimers);
+                }
+
+                for (final Timer timer: dueTimers)
+                {
+                    if (timer.isCancelled)
+                        continue;
+                    try
+                    {
+                        timer.task.run ();
+                    }
+                    catch (final RuntimeException ex)
+                    {
+                        ConsoleLogger.log ("Timer task crashed: " + ex.getMessage ());
+                    }
+                }
+
+                synchronized (this.lock)
+                {
+                    // Re-schedule periodic timers
+                    for (final Timer timer: dueTimers)
+                    {
+                        if (timer.period > 0 && !timer.isCancelled)
+                        {
+                            timer.deadline += timer.period;
+                            this.add (timer);
+                        }
+                    }
+                }
+                dueTimers.clear ();
+            }
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+    }
+
+
+    /**
+     * Wait until the next timer is due. Must be called while synchronized.
+     *
+     * @throws InterruptedException If the thread was interrupted
+     */
+    private void waitForDueTimers () throws InterruptedException
+    {
+        while (true)
+        {
+            if (this.numTimers == 0)
+            {
+                this.lock.wait ();
+                continue;
+            }
+
+            final long waitNanos = this.startTime + this.nextDueTick * TICK_NANOS - System.nanoTime ();
+            if (waitNanos <= 0)
+                return;
+            this.lock.wait (Math.max (1, waitNanos / 1_000_000L));
+        }
+    }
+
+
+    /**
+     * Remove all timers from the buckets which are due until the current tick. Cancelled timers
+     * are dropped. Must be called while synchronized.
+     *
+     * @param dueTimers Where to add the due timers
+     */
+    private void collectDueTimers (final List<Timer> dueTimers)
+    {
+        final long currentTick = (System.nanoTime () - this.startTime) / TICK_NANOS;
+
+        // Process all buckets since the last run but each one only once
+        final long lastTick = Math.min (currentTick, this.nextTick + WHEEL_SIZE - 1);
+        for (long tick = this.nextTick; tick <= lastTick; tick++)
+        {
+            final Iterator<Timer> iterator = this.buckets.get ((int) (tick % WHEEL_SIZE)).iterator ();
+            while (iterator.hasNext ())
+            {
+                final Timer timer = iterator.next ();
+                // Timers of later rounds stay in the bucket
+                if (timer.isCancelled || timer.tick <= currentTick)
+                {
+                    iterator.remove ();
+                    this.numTimers--;
+                    if (!timer.isCancelled)
+                        dueTimers.add (timer);
+                }
+            }
+        }
+        this.nextTick = currentTick + 1;
+
+        this.nextDueTick = Long.MAX_VALUE;
+        for (final List<Timer> bucket: this.buckets)
+        {
+            for (final Timer timer: bucket)
+                this.nextDueTick = Math.min (this.nextDueTick, timer.tick);
+        }
+    }
+
+
+    /**
+     * Handle of a scheduled timer.
+     */
+    public static class Timer
+    {
+        private final Runnable   task;
+        private final long       period;
+        private long             deadline;
+        private long             tick;
+        private volatile boolean isCancelled = false;
+
+
+        Timer (final Runnable task, final long period)
+        {
+            this.task = task;
+            this.period = period;
+        }
+
+
+        /**
+         * Cancel the timer. The task is not executed anymore, a running execution is not
+         * interrupted.
+         */
+        public void cancel ()
+        {
+            this.isCancelled = true;
+        }
+
+
+        /**
+         * Check if the timer was cancelled.
+         *
+         * @return True if cancelled
+         */
+        public boolean isCancelled ()
+        {
+            return this.isCancelled;
+        }
+    }
+}